@@ -1,23 +1,41 @@
 package in.utkarshsingh.money.manager.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.support.CompositeTaskDecorator;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.List;
 import java.util.concurrent.Executor;
 
 @Configuration
 public class AsyncConfig {
 
-    @Bean(name = "emailTaskExecutor")
-    public Executor emailTaskExecutor() {
+    @Bean(name = "reportJobExecutor")
+    public Executor reportJobExecutor(@Value("${analytics.report-jobs.workers:2}") int workers,
+                                      @Value("${analytics.report-jobs.queue-capacity:100}") int queueCapacity) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(5);
-        executor.setQueueCapacity(50);
-        executor.setThreadNamePrefix("email-async-");
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("report-job-");
         executor.setTaskDecorator(new MdcTaskDecorator());
         executor.initialize();
         return executor;
     }
+
+    /**
+     * Unbounded on purpose: ParallelReadExecutor admits reads with its own non-blocking permit
+     * count, because a concurrency limit here would block the submitting request thread.
+     */
+    @Bean(name = "readQueryExecutor")
+    public Executor readQueryExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("read-query-");
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(new CompositeTaskDecorator(
+                List.of(new MdcTaskDecorator(), new UserContextTaskDecorator())));
+        return executor;
+    }
 }
@@ -0,0 +1,85 @@
+package in.utkarshsingh.money.manager.config;
+
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+public class RabbitMQConfig {
+
+    public static final String PROFILE_DATA_EXCHANGE = ProfileDataEventsConfig.PROFILE_DATA_EXCHANGE;
+    public static final String REPORT_EMAIL_REQUEST_QUEUE = "report-email-request-queue";
+    public static final String REPORT_EMAIL_REQUEST_DLQ = "report-email-request-dlq";
+    public static final String REPORT_EMAIL_QUEUE = "report-email-queue";
+
+    private static final String REPORT_EMAIL_REQUEST_RETRY_PREFIX = "report-email-request-retry-";
+
+    @Bean
+    public FanoutExchange profileDataExchange() {
+        return new FanoutExchange(PROFILE_DATA_EXCHANGE);
+    }
+
+    @Bean
+    public Queue profileDataQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding profileDataBinding(Queue profileDataQueue, FanoutExchange profileDataExchange) {
+        return BindingBuilder.bind(profileDataQueue).to(profileDataExchange);
+    }
+
+    @Bean
+    public Queue reportEmailRequestQueue() {
+        return QueueBuilder.durable(REPORT_EMAIL_REQUEST_QUEUE).build();
+    }
+
+    @Bean
+    public Queue reportEmailRequestDeadLetterQueue() {
+        return QueueBuilder.durable(REPORT_EMAIL_REQUEST_DLQ).build();
+    }
+
+    /**
+     * One parking queue per backoff step; each dead-letters back onto the request queue once
+     * its TTL expires. The delay is part of the queue name so a new schedule declares new queues.
+     */
+    @Bean
+    public Declarables reportEmailRequestRetryQueues(
+            @Value("${analytics.report-email.retry-delays:30s,2m,10m}") List<Duration> retryDelays) {
+        List<Declarable> queues = retryDelays.stream()
+                .<Declarable>map(delay -> QueueBuilder.durable(reportEmailRequestRetryQueue(delay))
+                        .ttl((int) delay.toMillis())
+                        .deadLetterExchange("")
+                        .deadLetterRoutingKey(REPORT_EMAIL_REQUEST_QUEUE)
+                        .build())
+                .toList();
+        return new Declarables(queues);
+    }
+
+    public static String reportEmailRequestRetryQueue(Duration delay) {
+        return REPORT_EMAIL_REQUEST_RETRY_PREFIX + delay.toSeconds() + "s";
+    }
+
+    @Bean
+    public Queue reportEmailQueue() {
+        return QueueBuilder.durable(REPORT_EMAIL_QUEUE).build();
+    }
+
+    @Bean
+    public MessageConverter jsonMessageConverter() {
+        return new Jackson2JsonMessageConverter();
+    }
+}
@@ -0,0 +1,24 @@
+package in.utkarshsingh.money.manager.consumer;
+
+import in.utkarshsingh.money.manager.event.ProfileDataChangedEvent;
+import in.utkarshsingh.money.manager.service.LifetimeTotalsCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProfileDataChangedConsumer {
+
+    private final LifetimeTotalsCache lifetimeTotalsCache;
+
+    @RabbitListener(queues = "#{profileDataQueue.name}")
+    public void handleProfileDataChanged(ProfileDataChangedEvent event) {
+        log.debug("Invalidating cached totals | profileId={} | type={}", event.getProfileId(), event.getDataType());
+        if (event.getProfileId() != null) {
+            lifetimeTotalsCache.invalidate(event.getProfileId());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package in.utkarshsingh.money.manager.consumer;
+
+import in.utkarshsingh.money.manager.config.RabbitMQConfig;
+import in.utkarshsingh.money.manager.event.ReportEmailRequest;
+import in.utkarshsingh.money.manager.service.ReportEmailService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.ImmediateRequeueAmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Renders queued report emails. A failed request is parked on the next retry queue, which
+ * returns it to the request queue after that step's delay; once every step is used up it goes
+ * to the dead-letter queue. The original delivery is acked either way.
+ */
+@Component
+@Slf4j
+public class ReportEmailRequestConsumer {
+
+    static final String RETRY_COUNT_HEADER = "x-retry-count";
+
+    private final ReportEmailService reportEmailService;
+    private final RabbitTemplate rabbitTemplate;
+    private final List<Duration> retryDelays;
+    private final Counter retried;
+    private final Counter deadLettered;
+
+    public ReportEmailRequestConsumer(ReportEmailService reportEmailService,
+                                      RabbitTemplate rabbitTemplate,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${analytics.report-email.retry-delays:30s,2m,10m}") List<Duration> retryDelays) {
+        this.reportEmailService = reportEmailService;
+        this.rabbitTemplate = rabbitTemplate;
+        this.retryDelays = List.copyOf(retryDelays);
+        this.retried = meterRegistry.counter("report.email.render.retried");
+        this.deadLettered = meterRegistry.counter("report.email.render.dead-lettered");
+    }
+
+    @RabbitListener(queues = RabbitMQConfig.REPORT_EMAIL_REQUEST_QUEUE,
+            concurrency = "${analytics.report-email.concurrency:2}")
+    public void handleReportEmailRequest(ReportEmailRequest request, Message amqpMessage) {
+        try {
+            reportEmailService.renderAndDispatch(request);
+        } catch (Exception ex) {
+            scheduleRetry(amqpMessage, request, ex);
+        }
+    }
+
+    private void scheduleRetry(Message amqpMessage, ReportEmailRequest request, Exception cause) {
+        MessageProperties properties = amqpMessage.getMessageProperties();
+        int attempt = properties.getHeader(RETRY_COUNT_HEADER) instanceof Number number ? number.intValue() : 0;
+        properties.setHeader(RETRY_COUNT_HEADER, attempt + 1);
+        if (attempt < retryDelays.size()) {
+            Duration delay = retryDelays.get(attempt);
+            park(amqpMessage, RabbitMQConfig.reportEmailRequestRetryQueue(delay));
+            retried.increment();
+            log.warn("Report email for profileId={} failed, retrying in {} | attempt={} | error={}",
+                    request.getProfileId(), delay, attempt + 1, cause.getMessage());
+        } else {
+            park(amqpMessage, RabbitMQConfig.REPORT_EMAIL_REQUEST_DLQ);
+            deadLettered.increment();
+            log.error("Report email for profileId={} dead-lettered after {} attempts | error={}",
+                    request.getProfileId(), attempt + 1, cause.getMessage());
+        }
+    }
+
+    private void park(Message amqpMessage, String queue) {
+        amqpMessage.getMessageProperties().setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        try {
+            rabbitTemplate.send("", queue, amqpMessage);
+        } catch (AmqpException ex) {
+            throw new ImmediateRequeueAmqpException("Could not park failed report email request", ex);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import in.utkarshsingh.money.manager.dto.response.CategoryBreakdownResponse;
 import in.utkarshsingh.money.manager.dto.response.MonthlySummaryResponse;
 import in.utkarshsingh.money.manager.dto.response.NetWorthResponse;
 import in.utkarshsingh.money.manager.service.AnalyticsService;
+import in.utkarshsingh.money.manager.service.LifetimeTotalsCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -23,7 +24,11 @@ public class AnalyticsController {
 
     @GetMapping("/net-worth")
     public ResponseEntity<NetWorthResponse> getNetWorth() {
-        return ResponseEntity.ok(analyticsService.getNetWorth());
+        NetWorthResponse response = analyticsService.getNetWorth();
+        return ResponseEntity.ok()
+                .header(LifetimeTotalsCache.CACHE_AGE_HEADER,
+                        String.valueOf(LifetimeTotalsCache.ageSeconds(response.getAsOf())))
+                .body(response);
     }
 
     @GetMapping("/monthly-summary")
@@ -2,7 +2,9 @@ package in.utkarshsingh.money.manager.controller;
 
 import in.utkarshsingh.money.manager.dto.response.DashboardResponse;
 import in.utkarshsingh.money.manager.service.DashboardService;
+import in.utkarshsingh.money.manager.service.LifetimeTotalsCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -15,8 +17,21 @@ public class DashboardController {
 
     private final DashboardService dashboardService;
 
+    /**
+     * A partial dashboard is marked no-store so the gateway and browsers do not keep serving
+     * the degraded view after the failed sections recover.
+     */
     @GetMapping
     public ResponseEntity<DashboardResponse> getDashboardData() {
-        return ResponseEntity.ok(dashboardService.getDashboardData());
+        DashboardResponse response = dashboardService.getDashboardData();
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (response.isPartial()) {
+            builder.cacheControl(CacheControl.noStore());
+        }
+        if (response.getTotalsAsOf() != null) {
+            builder.header(LifetimeTotalsCache.CACHE_AGE_HEADER,
+                    String.valueOf(LifetimeTotalsCache.ageSeconds(response.getTotalsAsOf())));
+        }
+        return builder.body(response);
     }
 }
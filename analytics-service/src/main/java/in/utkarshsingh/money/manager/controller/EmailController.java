@@ -1,31 +1,29 @@
 package in.utkarshsingh.money.manager.controller;
 
-import in.utkarshsingh.money.manager.service.ReportService;
-import jakarta.mail.MessagingException;
+import in.utkarshsingh.money.manager.enums.ReportType;
+import in.utkarshsingh.money.manager.service.ReportEmailService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.io.IOException;
-
 @RestController
 @RequestMapping("/v1/reports/email")
 @RequiredArgsConstructor
 public class EmailController {
 
-    private final ReportService reportService;
+    private final ReportEmailService reportEmailService;
 
     @PostMapping("/income")
-    public ResponseEntity<Void> emailIncomeExcel() throws IOException, MessagingException {
-        reportService.emailIncomeExcel();
-        return ResponseEntity.ok().build();
+    public ResponseEntity<Void> emailIncomeExcel() {
+        reportEmailService.requestEmail(ReportType.INCOME);
+        return ResponseEntity.accepted().build();
     }
 
     @PostMapping("/expense")
-    public ResponseEntity<Void> emailExpenseExcel() throws IOException, MessagingException {
-        reportService.emailExpenseExcel();
-        return ResponseEntity.ok().build();
+    public ResponseEntity<Void> emailExpenseExcel() {
+        reportEmailService.requestEmail(ReportType.EXPENSE);
+        return ResponseEntity.accepted().build();
     }
 }
@@ -1,11 +1,18 @@
 package in.utkarshsingh.money.manager.controller;
 
 import in.utkarshsingh.money.manager.service.ReportService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.*;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/v1/reports")
@@ -14,61 +21,84 @@ public class ExcelController {
 
     private final ReportService reportService;
 
+    @Value("${analytics.export.csv.gzip-enabled:true}")
+    private boolean csvGzipEnabled;
+
     @GetMapping("/download/income")
-    public void downloadIncome(HttpServletResponse response,
-                               @RequestParam(defaultValue = "xlsx") String format) throws IOException {
+    public void downloadIncome(HttpServletRequest request,
+                               HttpServletResponse response,
+                               @RequestParam(defaultValue = "xlsx") String format,
+                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) throws IOException {
         switch (format.toLowerCase()) {
             case "csv" -> {
                 response.setContentType("text/csv");
                 response.setHeader("Content-Disposition", "attachment; filename=income.csv");
-                reportService.writeIncomeCsv(response.getOutputStream());
+                reportService.writeIncomeCsv(csvOutputStream(request, response), from, to);
             }
             case "pdf" -> {
                 response.setContentType("application/pdf");
                 response.setHeader("Content-Disposition", "attachment; filename=income.pdf");
-                reportService.writeIncomePdf(response.getOutputStream());
+                reportService.writeIncomePdf(response.getOutputStream(), from, to);
             }
             default -> {
                 response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
                 response.setHeader("Content-Disposition", "attachment; filename=income.xlsx");
-                reportService.writeIncomeExcel(response.getOutputStream());
+                reportService.writeIncomeExcel(response.getOutputStream(), from, to);
             }
         }
     }
 
     @GetMapping("/download/expense")
-    public void downloadExpense(HttpServletResponse response,
-                                @RequestParam(defaultValue = "xlsx") String format) throws IOException {
+    public void downloadExpense(HttpServletRequest request,
+                                HttpServletResponse response,
+                                @RequestParam(defaultValue = "xlsx") String format,
+                                @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) throws IOException {
         switch (format.toLowerCase()) {
             case "csv" -> {
                 response.setContentType("text/csv");
                 response.setHeader("Content-Disposition", "attachment; filename=expense.csv");
-                reportService.writeExpenseCsv(response.getOutputStream());
+                reportService.writeExpenseCsv(csvOutputStream(request, response), from, to);
             }
             case "pdf" -> {
                 response.setContentType("application/pdf");
                 response.setHeader("Content-Disposition", "attachment; filename=expense.pdf");
-                reportService.writeExpensePdf(response.getOutputStream());
+                reportService.writeExpensePdf(response.getOutputStream(), from, to);
             }
             default -> {
                 response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
                 response.setHeader("Content-Disposition", "attachment; filename=expense.xlsx");
-                reportService.writeExpenseExcel(response.getOutputStream());
+                reportService.writeExpenseExcel(response.getOutputStream(), from, to);
             }
         }
     }
 
+    /**
+     * Compresses the CSV body when the client accepts gzip. Sync-flush keeps the periodic
+     * flushes in {@code CsvService} effective, so compressed rows still arrive incrementally.
+     */
+    private OutputStream csvOutputStream(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (csvGzipEnabled && acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip")) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            return new GZIPOutputStream(response.getOutputStream(), 8192, true);
+        }
+        return response.getOutputStream();
+    }
+
     @GetMapping("/excel/download/income")
     public void legacyDownloadIncomeExcel(HttpServletResponse response) throws IOException {
         response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
         response.setHeader("Content-Disposition", "attachment; filename=income.xlsx");
-        reportService.writeIncomeExcel(response.getOutputStream());
+        reportService.writeIncomeExcel(response.getOutputStream(), null, null);
     }
 
     @GetMapping("/excel/download/expense")
     public void legacyDownloadExpenseExcel(HttpServletResponse response) throws IOException {
         response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
         response.setHeader("Content-Disposition", "attachment; filename=expense.xlsx");
-        reportService.writeExpenseExcel(response.getOutputStream());
+        reportService.writeExpenseExcel(response.getOutputStream(), null, null);
     }
 }
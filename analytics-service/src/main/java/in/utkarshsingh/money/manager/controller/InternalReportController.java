@@ -0,0 +1,43 @@
+package in.utkarshsingh.money.manager.controller;
+
+import in.utkarshsingh.money.manager.service.ReportAttachmentService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * Service-to-service access to emailed report attachments. Not routed by the gateway; each
+ * request must carry the per-attachment token published with the report email event. Any
+ * instance can serve any attachment, and email-service deletes it once the email is sent.
+ */
+@RestController
+@RequestMapping("/internal/reports")
+@RequiredArgsConstructor
+public class InternalReportController {
+
+    private final ReportAttachmentService reportAttachmentService;
+
+    @GetMapping("/{attachmentId}/attachment")
+    public void attachment(@PathVariable String attachmentId,
+                           @RequestHeader("X-Report-Token") String token,
+                           HttpServletRequest request,
+                           HttpServletResponse response) throws IOException {
+        SpoolFileResponder.send(reportAttachmentService.find(attachmentId, token), request, response);
+    }
+
+    @DeleteMapping("/{attachmentId}/attachment")
+    public ResponseEntity<Void> delivered(@PathVariable String attachmentId,
+                                          @RequestHeader("X-Report-Token") String token) {
+        reportAttachmentService.delete(attachmentId, token);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,42 @@
+package in.utkarshsingh.money.manager.controller;
+
+import in.utkarshsingh.money.manager.dto.request.ReportJobRequest;
+import in.utkarshsingh.money.manager.dto.response.ReportJobResponse;
+import in.utkarshsingh.money.manager.service.ReportJobService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.net.URI;
+
+@RestController
+@RequestMapping("/v1/reports/jobs")
+@RequiredArgsConstructor
+public class ReportJobController {
+
+    private final ReportJobService reportJobService;
+
+    @PostMapping
+    public ResponseEntity<ReportJobResponse> submit(@Valid @RequestBody ReportJobRequest request) {
+        ReportJobResponse job = reportJobService.submit(request);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/reports/jobs/" + job.getJobId()))
+                .body(job);
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ReportJobResponse> getStatus(@PathVariable String jobId) {
+        return ResponseEntity.ok(reportJobService.getStatus(jobId));
+    }
+
+    @GetMapping("/{jobId}/download")
+    public void download(@PathVariable String jobId,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        SpoolFileResponder.send(reportJobService.getDownload(jobId), request, response);
+    }
+}
@@ -0,0 +1,50 @@
+package in.utkarshsingh.money.manager.controller;
+
+import in.utkarshsingh.money.manager.service.ReportJobService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Serves a report spool without copying it through the heap: Tomcat's sendfile when the
+ * connector supports it, otherwise {@link FileChannel#transferTo} into the response.
+ */
+final class SpoolFileResponder {
+
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private SpoolFileResponder() {}
+
+    static void send(ReportJobService.ReportDownload download,
+                     HttpServletRequest request,
+                     HttpServletResponse response) throws IOException {
+        long size = Files.size(download.file());
+        response.setContentType(download.contentType());
+        response.setHeader("Content-Disposition", "attachment; filename=" + download.fileName());
+        response.setContentLengthLong(size);
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, download.file().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, size);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(download.file(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, out);
+            }
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package in.utkarshsingh.money.manager.dto.projection;
+
+import java.math.BigDecimal;
+
+public record CategoryTotal(Long categoryId, String categoryName, String categoryIcon, BigDecimal total) {}
@@ -0,0 +1,20 @@
+package in.utkarshsingh.money.manager.dto.projection;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public record LifetimeTotals(BigDecimal totalIncome,
+                             BigDecimal totalExpense,
+                             BigDecimal totalSavings,
+                             BigDecimal totalInvestments,
+                             BigDecimal totalDebt,
+                             Instant computedAt) {
+
+    public BigDecimal cashBalance() {
+        return totalIncome.subtract(totalExpense);
+    }
+
+    public BigDecimal netWorth() {
+        return cashBalance().add(totalSavings).add(totalInvestments).subtract(totalDebt);
+    }
+}
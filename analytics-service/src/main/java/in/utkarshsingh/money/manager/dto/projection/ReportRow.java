@@ -0,0 +1,6 @@
+package in.utkarshsingh.money.manager.dto.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record ReportRow(String name, String categoryName, BigDecimal amount, LocalDate date) {}
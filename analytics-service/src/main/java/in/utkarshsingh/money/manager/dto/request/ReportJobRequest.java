@@ -0,0 +1,28 @@
+package in.utkarshsingh.money.manager.dto.request;
+
+import in.utkarshsingh.money.manager.enums.ReportFormat;
+import in.utkarshsingh.money.manager.enums.ReportType;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ReportJobRequest {
+
+    @NotNull(message = "Report type is required")
+    private ReportType type;
+
+    @NotNull(message = "Report format is required")
+    private ReportFormat format;
+
+    private LocalDate from;
+
+    private LocalDate to;
+}
@@ -9,6 +9,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
 
 @Data
@@ -24,7 +25,10 @@ public class DashboardResponse {
     private BigDecimal totalInvestments;
     private BigDecimal totalDebt;
     private BigDecimal netWorth;
+    private Instant totalsAsOf;
     private List<IncomeDTO> recent5Incomes;
     private List<ExpenseDTO> recent5Expenses;
     private List<RecentTransactionDTO> recentTransactions;
+    private boolean partial;
+    private List<String> unavailableSections;
 }
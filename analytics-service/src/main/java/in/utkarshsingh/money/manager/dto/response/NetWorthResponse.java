@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 
 @Data
 @AllArgsConstructor
@@ -20,4 +21,5 @@ public class NetWorthResponse {
     private BigDecimal totalInvestments;
     private BigDecimal totalDebt;
     private BigDecimal netWorth;
+    private Instant asOf;
 }
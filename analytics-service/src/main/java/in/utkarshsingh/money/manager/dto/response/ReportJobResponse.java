@@ -0,0 +1,34 @@
+package in.utkarshsingh.money.manager.dto.response;
+
+import in.utkarshsingh.money.manager.enums.ReportFormat;
+import in.utkarshsingh.money.manager.enums.ReportJobStatus;
+import in.utkarshsingh.money.manager.enums.ReportType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ReportJobResponse {
+
+    private String jobId;
+    private ReportType type;
+    private ReportFormat format;
+    private LocalDate from;
+    private LocalDate to;
+    private ReportJobStatus status;
+    private long rowsWritten;
+    private Long totalRows;
+    private Integer progressPercent;
+    private String error;
+    private Instant createdAt;
+    private Instant completedAt;
+    private Instant expiresAt;
+    private String downloadUrl;
+}
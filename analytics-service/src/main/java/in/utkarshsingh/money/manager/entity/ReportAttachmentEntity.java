@@ -0,0 +1,47 @@
+package in.utkarshsingh.money.manager.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * A rendered report waiting to be emailed. The row lives in the shared database and the file in
+ * the shared spool directory under the row id, so any instance can serve it to email-service.
+ * Deleted once email-service reports it delivered, or by the sweeper after its TTL.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "tbl_report_email_attachments")
+public class ReportAttachmentEntity {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(nullable = false, length = 36)
+    private String token;
+
+    @Column(nullable = false)
+    private Long profileId;
+
+    @Column(nullable = false)
+    private String fileName;
+
+    @Column(nullable = false, length = 100)
+    private String contentType;
+
+    @Column(nullable = false)
+    private Long sizeBytes;
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,70 @@
+package in.utkarshsingh.money.manager.entity;
+
+import in.utkarshsingh.money.manager.enums.ReportFormat;
+import in.utkarshsingh.money.manager.enums.ReportJobStatus;
+import in.utkarshsingh.money.manager.enums.ReportType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Status of one async report job, kept in the shared database so any instance can answer
+ * status and download calls. The rendered file lives in the shared spool directory under the
+ * job id.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "tbl_report_jobs", indexes = {
+        @Index(name = "idx_report_jobs_dedup", columnList = "dedupKey, status"),
+        @Index(name = "idx_report_jobs_status", columnList = "status, createdAt")
+})
+public class ReportJobEntity {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(nullable = false)
+    private Long profileId;
+
+    @Column(nullable = false, length = 120)
+    private String dedupKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private ReportType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ReportFormat format;
+
+    @Column(nullable = false)
+    private LocalDate rangeStart;
+
+    @Column(nullable = false)
+    private LocalDate rangeEnd;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ReportJobStatus status;
+
+    @Column(nullable = false)
+    private Long rowsWritten;
+
+    private Long totalRows;
+
+    private String error;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    private Instant completedAt;
+}
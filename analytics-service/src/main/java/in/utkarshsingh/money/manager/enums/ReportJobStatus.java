@@ -0,0 +1,5 @@
+package in.utkarshsingh.money.manager.enums;
+
+public enum ReportJobStatus {
+    QUEUED, RUNNING, COMPLETED, FAILED
+}
@@ -0,0 +1,19 @@
+package in.utkarshsingh.money.manager.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum ReportType {
+    INCOME("income", "Incomes", "Income Report"),
+    EXPENSE("expense", "Expenses", "Expense Report");
+
+    private final String fileName;
+    private final String sheetName;
+    private final String title;
+
+    ReportType(String fileName, String sheetName, String title) {
+        this.fileName = fileName;
+        this.sheetName = sheetName;
+        this.title = title;
+    }
+}
@@ -0,0 +1,24 @@
+package in.utkarshsingh.money.manager.event;
+
+import in.utkarshsingh.money.manager.enums.ReportFormat;
+import in.utkarshsingh.money.manager.enums.ReportType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportEmailRequest {
+
+    private String eventId;
+    private Long profileId;
+    private String email;
+    private String fullName;
+    private ReportType type;
+    private ReportFormat format;
+    private String from;
+    private String to;
+}
@@ -1,13 +1,20 @@
 package in.utkarshsingh.money.manager.repository;
 
+import in.utkarshsingh.money.manager.dto.projection.CategoryTotal;
+import in.utkarshsingh.money.manager.dto.projection.MonthlyTotal;
+import in.utkarshsingh.money.manager.dto.projection.ReportRow;
 import in.utkarshsingh.money.manager.entity.ExpenseEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ExpenseRepository extends JpaRepository<ExpenseEntity, Long> {
 
@@ -15,6 +22,35 @@ public interface ExpenseRepository extends JpaRepository<ExpenseEntity, Long> {
 
     List<ExpenseEntity> findByProfileIdAndDateBetween(Long profileId, LocalDate startDate, LocalDate endDate);
 
+    long countByProfileIdAndDateBetween(Long profileId, LocalDate startDate, LocalDate endDate);
+
     @Query("SELECT COALESCE(SUM(e.amount), 0) FROM ExpenseEntity e WHERE e.profile.id = :profileId")
     BigDecimal findTotalExpenseByProfileId(@Param("profileId") Long profileId);
+
+    @Query("SELECT new in.utkarshsingh.money.manager.dto.projection.MonthlyTotal(MONTH(e.date), SUM(e.amount)) " +
+            "FROM ExpenseEntity e WHERE e.profile.id = :profileId AND e.date BETWEEN :startDate AND :endDate " +
+            "GROUP BY MONTH(e.date)")
+    List<MonthlyTotal> sumAmountByMonth(@Param("profileId") Long profileId,
+                                        @Param("startDate") LocalDate startDate,
+                                        @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT new in.utkarshsingh.money.manager.dto.projection.CategoryTotal(c.id, c.name, c.icon, SUM(e.amount)) " +
+            "FROM ExpenseEntity e JOIN e.category c " +
+            "WHERE e.profile.id = :profileId AND e.date BETWEEN :startDate AND :endDate " +
+            "GROUP BY c.id, c.name, c.icon ORDER BY SUM(e.amount) DESC")
+    List<CategoryTotal> sumAmountByCategory(@Param("profileId") Long profileId,
+                                            @Param("startDate") LocalDate startDate,
+                                            @Param("endDate") LocalDate endDate);
+
+    /**
+     * Forward-only cursor over report rows; must be consumed and closed inside a transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new in.utkarshsingh.money.manager.dto.projection.ReportRow(e.name, c.name, e.amount, e.date) " +
+            "FROM ExpenseEntity e LEFT JOIN e.category c " +
+            "WHERE e.profile.id = :profileId AND e.date BETWEEN :startDate AND :endDate " +
+            "ORDER BY e.date, e.id")
+    Stream<ReportRow> streamReportRows(@Param("profileId") Long profileId,
+                                       @Param("startDate") LocalDate startDate,
+                                       @Param("endDate") LocalDate endDate);
 }
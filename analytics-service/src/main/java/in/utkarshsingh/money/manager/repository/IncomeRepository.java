@@ -1,13 +1,20 @@
 package in.utkarshsingh.money.manager.repository;
 
+import in.utkarshsingh.money.manager.dto.projection.CategoryTotal;
+import in.utkarshsingh.money.manager.dto.projection.MonthlyTotal;
+import in.utkarshsingh.money.manager.dto.projection.ReportRow;
 import in.utkarshsingh.money.manager.entity.IncomeEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface IncomeRepository extends JpaRepository<IncomeEntity, Long> {
 
@@ -15,6 +22,35 @@ public interface IncomeRepository extends JpaRepository<IncomeEntity, Long> {
 
     List<IncomeEntity> findByProfileIdAndDateBetween(Long profileId, LocalDate startDate, LocalDate endDate);
 
+    long countByProfileIdAndDateBetween(Long profileId, LocalDate startDate, LocalDate endDate);
+
     @Query("SELECT COALESCE(SUM(i.amount), 0) FROM IncomeEntity i WHERE i.profile.id = :profileId")
     BigDecimal findTotalIncomeByProfileId(@Param("profileId") Long profileId);
+
+    @Query("SELECT new in.utkarshsingh.money.manager.dto.projection.MonthlyTotal(MONTH(i.date), SUM(i.amount)) " +
+            "FROM IncomeEntity i WHERE i.profile.id = :profileId AND i.date BETWEEN :startDate AND :endDate " +
+            "GROUP BY MONTH(i.date)")
+    List<MonthlyTotal> sumAmountByMonth(@Param("profileId") Long profileId,
+                                        @Param("startDate") LocalDate startDate,
+                                        @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT new in.utkarshsingh.money.manager.dto.projection.CategoryTotal(c.id, c.name, c.icon, SUM(i.amount)) " +
+            "FROM IncomeEntity i JOIN i.category c " +
+            "WHERE i.profile.id = :profileId AND i.date BETWEEN :startDate AND :endDate " +
+            "GROUP BY c.id, c.name, c.icon ORDER BY SUM(i.amount) DESC")
+    List<CategoryTotal> sumAmountByCategory(@Param("profileId") Long profileId,
+                                            @Param("startDate") LocalDate startDate,
+                                            @Param("endDate") LocalDate endDate);
+
+    /**
+     * Forward-only cursor over report rows; must be consumed and closed inside a transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new in.utkarshsingh.money.manager.dto.projection.ReportRow(i.name, c.name, i.amount, i.date) " +
+            "FROM IncomeEntity i LEFT JOIN i.category c " +
+            "WHERE i.profile.id = :profileId AND i.date BETWEEN :startDate AND :endDate " +
+            "ORDER BY i.date, i.id")
+    Stream<ReportRow> streamReportRows(@Param("profileId") Long profileId,
+                                       @Param("startDate") LocalDate startDate,
+                                       @Param("endDate") LocalDate endDate);
 }
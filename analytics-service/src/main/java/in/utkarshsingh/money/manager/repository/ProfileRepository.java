@@ -1,10 +1,19 @@
 package in.utkarshsingh.money.manager.repository;
 
 import in.utkarshsingh.money.manager.entity.ProfileEntity;
+import in.utkarshsingh.money.manager.security.ProfileRef;
+import in.utkarshsingh.money.manager.security.ProfileRefSource;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
-public interface ProfileRepository extends JpaRepository<ProfileEntity, Long> {
+public interface ProfileRepository extends JpaRepository<ProfileEntity, Long>, ProfileRefSource {
     Optional<ProfileEntity> findByEmail(String email);
+
+    @Override
+    @Query("SELECT new in.utkarshsingh.money.manager.security.ProfileRef(p.id, p.email, p.fullName, p.isActive) " +
+            "FROM ProfileEntity p WHERE p.email = :email")
+    Optional<ProfileRef> findRefByEmail(@Param("email") String email);
 }
@@ -0,0 +1,23 @@
+package in.utkarshsingh.money.manager.repository;
+
+import in.utkarshsingh.money.manager.entity.ReportAttachmentEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ReportAttachmentRepository extends JpaRepository<ReportAttachmentEntity, String> {
+
+    @Query("SELECT a.id FROM ReportAttachmentEntity a WHERE a.createdAt < :cutoff")
+    List<String> findIdsCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ReportAttachmentEntity a WHERE a.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<String> ids);
+}
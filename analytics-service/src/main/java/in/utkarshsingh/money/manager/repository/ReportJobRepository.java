@@ -0,0 +1,40 @@
+package in.utkarshsingh.money.manager.repository;
+
+import in.utkarshsingh.money.manager.entity.ReportJobEntity;
+import in.utkarshsingh.money.manager.enums.ReportJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ReportJobRepository extends JpaRepository<ReportJobEntity, String> {
+
+    Optional<ReportJobEntity> findFirstByDedupKeyAndStatusInAndCreatedAtAfter(String dedupKey,
+                                                                              Collection<ReportJobStatus> statuses,
+                                                                              Instant createdAfter);
+
+    @Query("SELECT j.id FROM ReportJobEntity j WHERE j.status IN :statuses AND j.completedAt < :cutoff")
+    List<String> findIdsCompletedBefore(@Param("statuses") Collection<ReportJobStatus> statuses,
+                                        @Param("cutoff") Instant cutoff);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ReportJobEntity j WHERE j.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<String> ids);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ReportJobEntity j SET j.status = :failed, j.error = :error, j.completedAt = :now "
+            + "WHERE j.status IN :statuses AND j.createdAt < :cutoff")
+    int failCreatedBefore(@Param("statuses") Collection<ReportJobStatus> statuses,
+                          @Param("cutoff") Instant cutoff,
+                          @Param("failed") ReportJobStatus failed,
+                          @Param("error") String error,
+                          @Param("now") Instant now);
+}
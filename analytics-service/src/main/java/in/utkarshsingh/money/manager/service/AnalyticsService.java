@@ -1,19 +1,16 @@
 package in.utkarshsingh.money.manager.service;
 
-import in.utkarshsingh.money.manager.dto.ExpenseDTO;
-import in.utkarshsingh.money.manager.dto.IncomeDTO;
 import in.utkarshsingh.money.manager.dto.response.BudgetSummaryResponse;
 import in.utkarshsingh.money.manager.dto.response.CategoryBreakdownResponse;
 import in.utkarshsingh.money.manager.dto.response.MonthlySummaryResponse;
 import in.utkarshsingh.money.manager.dto.response.NetWorthResponse;
 import in.utkarshsingh.money.manager.dto.BudgetDTO;
+import in.utkarshsingh.money.manager.dto.projection.CategoryTotal;
+import in.utkarshsingh.money.manager.dto.projection.LifetimeTotals;
+import in.utkarshsingh.money.manager.dto.projection.MonthlyTotal;
 import in.utkarshsingh.money.manager.entity.BudgetEntity;
-import in.utkarshsingh.money.manager.entity.ExpenseEntity;
-import in.utkarshsingh.money.manager.entity.IncomeEntity;
 import in.utkarshsingh.money.manager.entity.ProfileEntity;
 import in.utkarshsingh.money.manager.mapper.BudgetMapper;
-import in.utkarshsingh.money.manager.mapper.ExpenseMapper;
-import in.utkarshsingh.money.manager.mapper.IncomeMapper;
 import in.utkarshsingh.money.manager.repository.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -34,61 +31,40 @@ public class AnalyticsService {
 
     private final IncomeRepository incomeRepository;
     private final ExpenseRepository expenseRepository;
-    private final SavingsGoalRepository savingsGoalRepository;
-    private final InvestmentRepository investmentRepository;
-    private final DebtRepository debtRepository;
     private final BudgetRepository budgetRepository;
     private final UserResolverService userResolverService;
-    private final IncomeMapper incomeMapper;
-    private final ExpenseMapper expenseMapper;
     private final BudgetMapper budgetMapper;
+    private final LifetimeTotalsCache lifetimeTotalsCache;
 
-    @Transactional(readOnly = true)
     public NetWorthResponse getNetWorth() {
         ProfileEntity profile = userResolverService.getCurrentProfile();
-        Long profileId = profile.getId();
-
-        BigDecimal totalIncome = incomeRepository.findTotalIncomeByProfileId(profileId);
-        BigDecimal totalExpense = expenseRepository.findTotalExpenseByProfileId(profileId);
-        BigDecimal totalSavings = savingsGoalRepository.findTotalSavedByProfileId(profileId);
-        BigDecimal totalInvestments = investmentRepository.findTotalCurrentValueByProfileId(profileId);
-        BigDecimal totalDebt = debtRepository.findTotalRemainingDebtByProfileId(profileId);
-
-        totalIncome = totalIncome != null ? totalIncome : BigDecimal.ZERO;
-        totalExpense = totalExpense != null ? totalExpense : BigDecimal.ZERO;
-        totalSavings = totalSavings != null ? totalSavings : BigDecimal.ZERO;
-        totalInvestments = totalInvestments != null ? totalInvestments : BigDecimal.ZERO;
-        totalDebt = totalDebt != null ? totalDebt : BigDecimal.ZERO;
-
-        BigDecimal cashBalance = totalIncome.subtract(totalExpense);
-        BigDecimal netWorth = cashBalance.add(totalSavings).add(totalInvestments).subtract(totalDebt);
+        LifetimeTotals totals = lifetimeTotalsCache.getNow(profile.getId());
 
         return NetWorthResponse.builder()
-                .totalIncome(totalIncome)
-                .totalExpense(totalExpense)
-                .cashBalance(cashBalance)
-                .totalSavings(totalSavings)
-                .totalInvestments(totalInvestments)
-                .totalDebt(totalDebt)
-                .netWorth(netWorth)
+                .totalIncome(totals.totalIncome())
+                .totalExpense(totals.totalExpense())
+                .cashBalance(totals.cashBalance())
+                .totalSavings(totals.totalSavings())
+                .totalInvestments(totals.totalInvestments())
+                .totalDebt(totals.totalDebt())
+                .netWorth(totals.netWorth())
+                .asOf(totals.computedAt())
                 .build();
     }
 
     @Transactional(readOnly = true)
     public MonthlySummaryResponse getMonthlySummary(int year) {
         ProfileEntity profile = userResolverService.getCurrentProfile();
-        List<MonthlySummaryResponse.MonthData> months = new ArrayList<>();
-
-        for (int m = 1; m <= 12; m++) {
-            YearMonth ym = YearMonth.of(year, m);
-            LocalDate start = ym.atDay(1);
-            LocalDate end = ym.atEndOfMonth();
+        LocalDate start = LocalDate.of(year, 1, 1);
+        LocalDate end = LocalDate.of(year, 12, 31);
 
-            List<IncomeEntity> incomes = incomeRepository.findByProfileIdAndDateBetween(profile.getId(), start, end);
-            List<ExpenseEntity> expenses = expenseRepository.findByProfileIdAndDateBetween(profile.getId(), start, end);
+        Map<Integer, BigDecimal> incomeByMonth = toMonthMap(incomeRepository.sumAmountByMonth(profile.getId(), start, end));
+        Map<Integer, BigDecimal> expenseByMonth = toMonthMap(expenseRepository.sumAmountByMonth(profile.getId(), start, end));
 
-            BigDecimal income = incomes.stream().map(IncomeEntity::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
-            BigDecimal expense = expenses.stream().map(ExpenseEntity::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
+        List<MonthlySummaryResponse.MonthData> months = new ArrayList<>();
+        for (int m = 1; m <= 12; m++) {
+            BigDecimal income = incomeByMonth.getOrDefault(m, BigDecimal.ZERO);
+            BigDecimal expense = expenseByMonth.getOrDefault(m, BigDecimal.ZERO);
 
             months.add(MonthlySummaryResponse.MonthData.builder()
                     .month(m)
@@ -105,6 +81,14 @@ public class AnalyticsService {
                 .build();
     }
 
+    private Map<Integer, BigDecimal> toMonthMap(List<MonthlyTotal> totals) {
+        Map<Integer, BigDecimal> byMonth = new HashMap<>();
+        for (MonthlyTotal total : totals) {
+            byMonth.put(total.month(), total.total() != null ? total.total() : BigDecimal.ZERO);
+        }
+        return byMonth;
+    }
+
     @Transactional(readOnly = true)
     public CategoryBreakdownResponse getCategoryBreakdown(String month, String type) {
         ProfileEntity profile = userResolverService.getCurrentProfile();
@@ -121,73 +105,33 @@ public class AnalyticsService {
     }
 
     private CategoryBreakdownResponse buildExpenseBreakdown(Long profileId, LocalDate start, LocalDate end, String month) {
-        List<ExpenseEntity> expenses = expenseRepository.findByProfileIdAndDateBetween(profileId, start, end);
-        BigDecimal total = expenses.stream().map(ExpenseEntity::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        Map<Long, List<ExpenseEntity>> grouped = expenses.stream()
-                .filter(e -> e.getCategory() != null)
-                .collect(Collectors.groupingBy(e -> e.getCategory().getId()));
-
-        List<CategoryBreakdownResponse.CategoryData> categories = grouped.entrySet().stream()
-                .map(entry -> {
-                    ExpenseEntity sample = entry.getValue().get(0);
-                    BigDecimal amount = entry.getValue().stream().map(ExpenseEntity::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
-                    BigDecimal pct = total.compareTo(BigDecimal.ZERO) > 0
-                            ? amount.multiply(BigDecimal.valueOf(100)).divide(total, 2, RoundingMode.HALF_UP)
-                            : BigDecimal.ZERO;
-                    return CategoryBreakdownResponse.CategoryData.builder()
-                            .categoryId(sample.getCategory().getId())
-                            .categoryName(sample.getCategory().getName())
-                            .categoryIcon(sample.getCategory().getIcon())
-                            .amount(amount)
-                            .percentage(pct)
-                            .build();
-                })
-                .sorted(Comparator.comparing(CategoryBreakdownResponse.CategoryData::getAmount).reversed())
-                .toList();
-
-        return CategoryBreakdownResponse.builder()
-                .month(month).type("expense").total(total).categories(categories).build();
+        return buildBreakdown(expenseRepository.sumAmountByCategory(profileId, start, end), month, "expense");
     }
 
     private CategoryBreakdownResponse buildIncomeBreakdown(Long profileId, LocalDate start, LocalDate end, String month) {
-        List<IncomeEntity> incomes = incomeRepository.findByProfileIdAndDateBetween(profileId, start, end);
-        BigDecimal total = incomes.stream().map(IncomeEntity::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
+        return buildBreakdown(incomeRepository.sumAmountByCategory(profileId, start, end), month, "income");
+    }
 
-        Map<Long, List<IncomeEntity>> grouped = incomes.stream()
-                .filter(i -> i.getCategory() != null)
-                .collect(Collectors.groupingBy(i -> i.getCategory().getId()));
+    private CategoryBreakdownResponse buildBreakdown(List<CategoryTotal> totals, String month, String type) {
+        BigDecimal total = totals.stream().map(CategoryTotal::total).reduce(BigDecimal.ZERO, BigDecimal::add);
 
-        List<CategoryBreakdownResponse.CategoryData> categories = grouped.entrySet().stream()
-                .map(entry -> {
-                    IncomeEntity sample = entry.getValue().get(0);
-                    BigDecimal amount = entry.getValue().stream().map(IncomeEntity::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
+        List<CategoryBreakdownResponse.CategoryData> categories = totals.stream()
+                .map(categoryTotal -> {
                     BigDecimal pct = total.compareTo(BigDecimal.ZERO) > 0
-                            ? amount.multiply(BigDecimal.valueOf(100)).divide(total, 2, RoundingMode.HALF_UP)
+                            ? categoryTotal.total().multiply(BigDecimal.valueOf(100)).divide(total, 2, RoundingMode.HALF_UP)
                             : BigDecimal.ZERO;
                     return CategoryBreakdownResponse.CategoryData.builder()
-                            .categoryId(sample.getCategory().getId())
-                            .categoryName(sample.getCategory().getName())
-                            .categoryIcon(sample.getCategory().getIcon())
-                            .amount(amount)
+                            .categoryId(categoryTotal.categoryId())
+                            .categoryName(categoryTotal.categoryName())
+                            .categoryIcon(categoryTotal.categoryIcon())
+                            .amount(categoryTotal.total())
                             .percentage(pct)
                             .build();
                 })
-                .sorted(Comparator.comparing(CategoryBreakdownResponse.CategoryData::getAmount).reversed())
                 .toList();
 
         return CategoryBreakdownResponse.builder()
-                .month(month).type("income").total(total).categories(categories).build();
-    }
-
-    public List<IncomeDTO> getIncomeDataForRange(Long profileId, LocalDate start, LocalDate end) {
-        return incomeRepository.findByProfileIdAndDateBetween(profileId, start, end)
-                .stream().map(incomeMapper::toDTO).toList();
-    }
-
-    public List<ExpenseDTO> getExpenseDataForRange(Long profileId, LocalDate start, LocalDate end) {
-        return expenseRepository.findByProfileIdAndDateBetween(profileId, start, end)
-                .stream().map(expenseMapper::toDTO).toList();
+                .month(month).type(type).total(total).categories(categories).build();
     }
 
     @Transactional(readOnly = true)
@@ -199,15 +143,13 @@ public class AnalyticsService {
         java.time.YearMonth ym = java.time.YearMonth.parse(budgetMonth);
         LocalDate start = ym.atDay(1);
         LocalDate end = ym.atEndOfMonth();
-        List<ExpenseEntity> expenses = expenseRepository.findByProfileIdAndDateBetween(profile.getId(), start, end);
-
-        List<BudgetDTO> budgetDTOs = budgets.stream().map(b -> {
-            BigDecimal spent = expenses.stream()
-                    .filter(e -> e.getCategory() != null && e.getCategory().getId().equals(b.getCategory().getId()))
-                    .map(ExpenseEntity::getAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-            return budgetMapper.toDTO(b, spent);
-        }).toList();
+        Map<Long, BigDecimal> spentByCategory = expenseRepository.sumAmountByCategory(profile.getId(), start, end)
+                .stream()
+                .collect(Collectors.toMap(CategoryTotal::categoryId, CategoryTotal::total));
+
+        List<BudgetDTO> budgetDTOs = budgets.stream()
+                .map(b -> budgetMapper.toDTO(b, spentByCategory.getOrDefault(b.getCategory().getId(), BigDecimal.ZERO)))
+                .toList();
 
         BigDecimal totalBudgeted = budgetDTOs.stream().map(BudgetDTO::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
         BigDecimal totalSpent = budgetDTOs.stream().map(BudgetDTO::getSpent).reduce(BigDecimal.ZERO, BigDecimal::add);
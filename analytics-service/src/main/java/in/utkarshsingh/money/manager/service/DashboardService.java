@@ -3,73 +3,94 @@ package in.utkarshsingh.money.manager.service;
 import in.utkarshsingh.money.manager.dto.ExpenseDTO;
 import in.utkarshsingh.money.manager.dto.IncomeDTO;
 import in.utkarshsingh.money.manager.dto.RecentTransactionDTO;
+import in.utkarshsingh.money.manager.dto.projection.LifetimeTotals;
 import in.utkarshsingh.money.manager.dto.response.DashboardResponse;
 import in.utkarshsingh.money.manager.entity.ProfileEntity;
 import in.utkarshsingh.money.manager.mapper.ExpenseMapper;
 import in.utkarshsingh.money.manager.mapper.IncomeMapper;
-import in.utkarshsingh.money.manager.repository.*;
+import in.utkarshsingh.money.manager.repository.ExpenseRepository;
+import in.utkarshsingh.money.manager.repository.IncomeRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class DashboardService {
 
+    private static final LifetimeTotals NO_TOTALS = new LifetimeTotals(
+            BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, null);
+
     private final IncomeRepository incomeRepository;
     private final ExpenseRepository expenseRepository;
-    private final SavingsGoalRepository savingsGoalRepository;
-    private final InvestmentRepository investmentRepository;
-    private final DebtRepository debtRepository;
     private final UserResolverService userResolverService;
     private final IncomeMapper incomeMapper;
     private final ExpenseMapper expenseMapper;
+    private final ParallelReadExecutor parallelReadExecutor;
+    private final LifetimeTotalsCache lifetimeTotalsCache;
 
-    @Transactional(readOnly = true)
+    /**
+     * Fans the recent-transaction reads out in parallel alongside the cached lifetime totals.
+     * A source that fails or exceeds the read timeout is reported in {@code unavailableSections}
+     * and contributes an empty list or zero, so the rest of the dashboard still renders.
+     */
     public DashboardResponse getDashboardData() {
         ProfileEntity profile = userResolverService.getCurrentProfile();
         Long profileId = profile.getId();
 
-        List<IncomeDTO> latestIncomes = incomeRepository.findTop5ByProfileIdOrderByDateDesc(profileId)
-                .stream().map(incomeMapper::toDTO).toList();
-        List<ExpenseDTO> latestExpenses = expenseRepository.findTop5ByProfileIdOrderByDateDesc(profileId)
-                .stream().map(expenseMapper::toDTO).toList();
-        List<RecentTransactionDTO> recentTransactions = buildRecentTransactions(profileId, latestIncomes, latestExpenses);
-
-        BigDecimal totalIncome = incomeRepository.findTotalIncomeByProfileId(profileId);
-        BigDecimal totalExpense = expenseRepository.findTotalExpenseByProfileId(profileId);
-        BigDecimal totalSavings = savingsGoalRepository.findTotalSavedByProfileId(profileId);
-        BigDecimal totalInvestments = investmentRepository.findTotalCurrentValueByProfileId(profileId);
-        BigDecimal totalDebt = debtRepository.findTotalRemainingDebtByProfileId(profileId);
+        CompletableFuture<List<IncomeDTO>> incomesFuture = parallelReadExecutor.submit(() ->
+                incomeRepository.findTop5ByProfileIdOrderByDateDesc(profileId)
+                        .stream().map(incomeMapper::toDTO).toList());
+        CompletableFuture<List<ExpenseDTO>> expensesFuture = parallelReadExecutor.submit(() ->
+                expenseRepository.findTop5ByProfileIdOrderByDateDesc(profileId)
+                        .stream().map(expenseMapper::toDTO).toList());
+        CompletableFuture<LifetimeTotals> totalsFuture = lifetimeTotalsCache.get(profileId);
 
-        totalIncome = totalIncome != null ? totalIncome : BigDecimal.ZERO;
-        totalExpense = totalExpense != null ? totalExpense : BigDecimal.ZERO;
-        totalSavings = totalSavings != null ? totalSavings : BigDecimal.ZERO;
-        totalInvestments = totalInvestments != null ? totalInvestments : BigDecimal.ZERO;
-        totalDebt = totalDebt != null ? totalDebt : BigDecimal.ZERO;
+        List<String> unavailable = new ArrayList<>();
+        List<IncomeDTO> latestIncomes = await("recentIncomes", incomesFuture, List.of(), unavailable);
+        List<ExpenseDTO> latestExpenses = await("recentExpenses", expensesFuture, List.of(), unavailable);
+        LifetimeTotals totals = await("totals", totalsFuture, NO_TOTALS, unavailable);
 
-        BigDecimal cashBalance = totalIncome.subtract(totalExpense);
-        BigDecimal netWorth = cashBalance.add(totalSavings).add(totalInvestments).subtract(totalDebt);
+        List<RecentTransactionDTO> recentTransactions = buildRecentTransactions(profileId, latestIncomes, latestExpenses);
 
         return DashboardResponse.builder()
-                .totalBalance(cashBalance)
-                .totalIncome(totalIncome)
-                .totalExpense(totalExpense)
-                .totalSavings(totalSavings)
-                .totalInvestments(totalInvestments)
-                .totalDebt(totalDebt)
-                .netWorth(netWorth)
+                .totalBalance(totals.cashBalance())
+                .totalIncome(totals.totalIncome())
+                .totalExpense(totals.totalExpense())
+                .totalSavings(totals.totalSavings())
+                .totalInvestments(totals.totalInvestments())
+                .totalDebt(totals.totalDebt())
+                .netWorth(totals.netWorth())
+                .totalsAsOf(totals.computedAt())
                 .recent5Incomes(latestIncomes)
                 .recent5Expenses(latestExpenses)
                 .recentTransactions(recentTransactions)
+                .partial(!unavailable.isEmpty())
+                .unavailableSections(unavailable)
                 .build();
     }
 
+    private <T> T await(String section, CompletableFuture<T> future, T fallback, List<String> unavailable) {
+        try {
+            T value = future.join();
+            return value != null ? value : fallback;
+        } catch (CompletionException | CancellationException ex) {
+            log.warn("Dashboard section unavailable | section={} | error={}", section, ex.getMessage());
+            unavailable.add(section);
+            return fallback;
+        }
+    }
+
     private List<RecentTransactionDTO> buildRecentTransactions(Long profileId,
                                                                List<IncomeDTO> incomes,
                                                                List<ExpenseDTO> expenses) {
@@ -0,0 +1,20 @@
+package in.utkarshsingh.money.manager.service;
+
+import java.time.LocalDate;
+
+/**
+ * Inclusive export range. A missing {@code to} defaults to the end of the current month and a
+ * missing {@code from} to the start of {@code to}'s month, so existing callers keep their behaviour.
+ */
+record DateRange(LocalDate start, LocalDate end) {
+
+    static DateRange of(LocalDate from, LocalDate to) {
+        LocalDate now = LocalDate.now();
+        LocalDate end = to != null ? to : now.withDayOfMonth(now.lengthOfMonth());
+        LocalDate start = from != null ? from : end.withDayOfMonth(1);
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        return new DateRange(start, end);
+    }
+}
@@ -1,63 +0,0 @@
-package in.utkarshsingh.money.manager.service;
-
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.mail.MailException;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Recover;
-import org.springframework.retry.annotation.Retryable;
-import org.springframework.scheduling.annotation.Async;
-import org.springframework.stereotype.Service;
-
-@Service
-@RequiredArgsConstructor
-@Slf4j
-public class EmailService {
-
-    private final JavaMailSender mailSender;
-
-    @Value("${spring.mail.properties.mail.smtp.from}")
-    private String fromEmail;
-
-    @Async("emailTaskExecutor")
-    @Retryable(
-            value = { MailException.class },
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 3000)
-    )
-    public void sendEmail(String to, String subject, String body) {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setFrom(fromEmail);
-        message.setTo(to);
-        message.setSubject(subject);
-        message.setText(body);
-        mailSender.send(message);
-        log.info("Email sent to: {}", to);
-    }
-
-    @Recover
-    public void recover(MailException ex, String to, String subject, String body) {
-        log.error("Email sending failed permanently after 3 attempts | recipient={} | subject={} | error={}",
-                to, subject, ex.getMessage());
-    }
-
-    @Async("emailTaskExecutor")
-    public void sendEmailWithAttachment(String to, String subject, String body, byte[] attachment, String filename) throws MessagingException {
-        MimeMessage message = mailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(message, true);
-        helper.setFrom(fromEmail);
-        helper.setTo(to);
-        helper.setSubject(subject);
-        helper.setText(body);
-        helper.addAttachment(filename, new ByteArrayResource(attachment));
-        mailSender.send(message);
-        log.info("Email with attachment sent to: {} | file={}", to, filename);
-    }
-}
@@ -1,66 +1,58 @@
 package in.utkarshsingh.money.manager.service;
 
-import in.utkarshsingh.money.manager.dto.ExpenseDTO;
-import in.utkarshsingh.money.manager.dto.IncomeDTO;
+import in.utkarshsingh.money.manager.dto.projection.ReportRow;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.io.OutputStream;
-import java.util.List;
-import java.util.stream.IntStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
 
+/**
+ * Writes report rows through a windowed {@link SXSSFWorkbook}: only the last {@code row-window}
+ * rows stay in heap, older ones are flushed to a compressed temp file, so memory stays flat
+ * regardless of how many rows the cursor yields.
+ */
 @Service
 public class ExcelService {
 
-    public void writeIncomesToExcel(OutputStream os, List<IncomeDTO> incomes) throws IOException {
-        try(Workbook workbook = new XSSFWorkbook()) {
-            Sheet sheet = workbook.createSheet("Incomes");
-            Row header = sheet.createRow(0);
-            header.createCell(0).setCellValue("S.No");
-            header.createCell(1).setCellValue("Name");
-            header.createCell(2).setCellValue("Category");
-            header.createCell(3).setCellValue("Amount");
-            header.createCell(4).setCellValue("Date");
-            IntStream.range(0, incomes.size())
-                    .forEach(i -> {
-                        IncomeDTO income = incomes.get(i);
-                        Row row = sheet.createRow(i + 1);
-                        row.createCell(0).setCellValue(i + 1);
-                        row.createCell(1).setCellValue(income.getName() != null ? income.getName(): "N/A");
-                        row.createCell(2).setCellValue(income.getCategoryId() != null ? income.getCategoryName(): "N/A");
-                        row.createCell(3).setCellValue(income.getAmount() != null ? income.getAmount().doubleValue(): 0);
-                        row.createCell(4).setCellValue(income.getDate() != null ? income.getDate().toString(): "N/A");
-                    });
-            workbook.write(os);
-        }
+    private final int rowWindow;
+
+    public ExcelService(@Value("${analytics.export.excel.row-window:200}") int rowWindow) {
+        this.rowWindow = rowWindow;
     }
 
-    public void writeExpensesToExcel(OutputStream os, List<ExpenseDTO> expenses) throws IOException {
-        try (Workbook workbook = new XSSFWorkbook()) {
-            Sheet sheet = workbook.createSheet("Expenses");
+    public void writeRows(OutputStream os, String sheetName, Stream<ReportRow> rows) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(rowWindow);
+        workbook.setCompressTempFiles(true);
+        try {
+            Sheet sheet = workbook.createSheet(sheetName);
             Row header = sheet.createRow(0);
             header.createCell(0).setCellValue("S.No");
             header.createCell(1).setCellValue("Name");
             header.createCell(2).setCellValue("Category");
             header.createCell(3).setCellValue("Amount");
             header.createCell(4).setCellValue("Date");
-            IntStream.range(0, expenses.size())
-                    .forEach(i -> {
-                        ExpenseDTO expense = expenses.get(i);
-                        Row row = sheet.createRow(i + 1);
-                        row.createCell(0).setCellValue(i + 1);
-                        row.createCell(1).setCellValue(expense.getName() != null ? expense.getName() : "");
-                        row.createCell(2)
-                                .setCellValue(expense.getCategoryId() != null ? expense.getCategoryName() : "N/A");
-                        row.createCell(3)
-                                .setCellValue(expense.getAmount() != null ? expense.getAmount().doubleValue() : 0);
-                        row.createCell(4).setCellValue(expense.getDate() != null ? expense.getDate().toString() : "");
-                    });
+
+            int i = 0;
+            Iterator<ReportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                ReportRow item = iterator.next();
+                Row row = sheet.createRow(++i);
+                row.createCell(0).setCellValue(i);
+                row.createCell(1).setCellValue(item.name() != null ? item.name() : "N/A");
+                row.createCell(2).setCellValue(item.categoryName() != null ? item.categoryName() : "N/A");
+                row.createCell(3).setCellValue(item.amount() != null ? item.amount().doubleValue() : 0);
+                row.createCell(4).setCellValue(item.date() != null ? item.date().toString() : "N/A");
+            }
             workbook.write(os);
+        } finally {
+            workbook.dispose();
+            workbook.close();
         }
     }
 }
@@ -0,0 +1,120 @@
+package in.utkarshsingh.money.manager.service;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import in.utkarshsingh.money.manager.dto.projection.LifetimeTotals;
+import in.utkarshsingh.money.manager.repository.DebtRepository;
+import in.utkarshsingh.money.manager.repository.ExpenseRepository;
+import in.utkarshsingh.money.manager.repository.IncomeRepository;
+import in.utkarshsingh.money.manager.repository.InvestmentRepository;
+import in.utkarshsingh.money.manager.repository.SavingsGoalRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Per-profile cache of the five lifetime SUMs behind net worth and the dashboard.
+ * Entries older than {@code refresh-after} are still served while a single background reload
+ * replaces them; a write event for the profile drops the entry so the next read is fresh.
+ */
+@Component
+public class LifetimeTotalsCache {
+
+    public static final String CACHE_AGE_HEADER = "X-Cache-Age";
+
+    private final IncomeRepository incomeRepository;
+    private final ExpenseRepository expenseRepository;
+    private final SavingsGoalRepository savingsGoalRepository;
+    private final InvestmentRepository investmentRepository;
+    private final DebtRepository debtRepository;
+    private final ParallelReadExecutor parallelReadExecutor;
+    private final AsyncLoadingCache<Long, LifetimeTotals> totals;
+
+    public LifetimeTotalsCache(IncomeRepository incomeRepository,
+                               ExpenseRepository expenseRepository,
+                               SavingsGoalRepository savingsGoalRepository,
+                               InvestmentRepository investmentRepository,
+                               DebtRepository debtRepository,
+                               ParallelReadExecutor parallelReadExecutor,
+                               MeterRegistry meterRegistry,
+                               @Value("${analytics.totals-cache.max-size:10000}") long maxSize,
+                               @Value("${analytics.totals-cache.refresh-after:1m}") Duration refreshAfter,
+                               @Value("${analytics.totals-cache.expire-after:30m}") Duration expireAfter) {
+        this.incomeRepository = incomeRepository;
+        this.expenseRepository = expenseRepository;
+        this.savingsGoalRepository = savingsGoalRepository;
+        this.investmentRepository = investmentRepository;
+        this.debtRepository = debtRepository;
+        this.parallelReadExecutor = parallelReadExecutor;
+        this.totals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .refreshAfterWrite(refreshAfter)
+                .expireAfterWrite(expireAfter)
+                .recordStats()
+                .buildAsync((profileId, executor) -> load(profileId));
+        CaffeineCacheMetrics.monitor(meterRegistry, totals.synchronous(), "analytics.lifetime-totals");
+    }
+
+    public CompletableFuture<LifetimeTotals> get(Long profileId) {
+        return totals.get(profileId);
+    }
+
+    /**
+     * Blocking variant for callers without a fan-out of their own; rethrows the loader's
+     * failure rather than the {@link CompletionException} wrapping it.
+     */
+    public LifetimeTotals getNow(Long profileId) {
+        try {
+            return get(profileId).join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Seconds since the totals were computed, as sent in {@value #CACHE_AGE_HEADER}.
+     */
+    public static long ageSeconds(Instant computedAt) {
+        return Math.max(0, Duration.between(computedAt, Instant.now()).toSeconds());
+    }
+
+    public void invalidate(Long profileId) {
+        totals.synchronous().invalidate(profileId);
+    }
+
+    private CompletableFuture<LifetimeTotals> load(Long profileId) {
+        CompletableFuture<BigDecimal> income = parallelReadExecutor.submit(() ->
+                incomeRepository.findTotalIncomeByProfileId(profileId));
+        CompletableFuture<BigDecimal> expense = parallelReadExecutor.submit(() ->
+                expenseRepository.findTotalExpenseByProfileId(profileId));
+        CompletableFuture<BigDecimal> savings = parallelReadExecutor.submit(() ->
+                savingsGoalRepository.findTotalSavedByProfileId(profileId));
+        CompletableFuture<BigDecimal> investments = parallelReadExecutor.submit(() ->
+                investmentRepository.findTotalCurrentValueByProfileId(profileId));
+        CompletableFuture<BigDecimal> debt = parallelReadExecutor.submit(() ->
+                debtRepository.findTotalRemainingDebtByProfileId(profileId));
+
+        return CompletableFuture.allOf(income, expense, savings, investments, debt)
+                .thenApply(ignored -> new LifetimeTotals(
+                        orZero(income.join()),
+                        orZero(expense.join()),
+                        orZero(savings.join()),
+                        orZero(investments.join()),
+                        orZero(debt.join()),
+                        Instant.now()));
+    }
+
+    private static BigDecimal orZero(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+}
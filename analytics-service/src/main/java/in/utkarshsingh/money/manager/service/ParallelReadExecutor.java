@@ -0,0 +1,97 @@
+package in.utkarshsingh.money.manager.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs independent reads concurrently on virtual threads, each in its own read-only
+ * transaction bounded by the configured timeout. The same timeout is set as the JPA query
+ * timeout on the transaction's EntityManager, so the driver cancels a slow statement and the
+ * pooled connection is released instead of staying busy behind an abandoned future.
+ * <p>
+ * At most {@code max-concurrency} reads run at once, capped below the connection pool size so
+ * {@code reserved-connections} stay free for request threads and consumers; each read needs its
+ * own connection. Past that, new reads fail immediately with {@link TaskRejectedException} so
+ * the caller can report the section as unavailable rather than wait on the request thread.
+ * The pool's connection timeout is kept below the read timeout, so a read that does queue for
+ * a connection gives up, and frees its permit, about when its future does.
+ */
+@Component
+@Slf4j
+public class ParallelReadExecutor {
+
+    private static final String QUERY_TIMEOUT_HINT = "jakarta.persistence.query.timeout";
+
+    private final Executor executor;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Semaphore permits;
+    private final Duration timeout;
+
+    public ParallelReadExecutor(@Qualifier("readQueryExecutor") Executor executor,
+                                EntityManager entityManager,
+                                PlatformTransactionManager transactionManager,
+                                DataSource dataSource,
+                                @Value("${analytics.read-query.timeout:2s}") Duration timeout,
+                                @Value("${analytics.read-query.max-concurrency:16}") int maxConcurrency,
+                                @Value("${analytics.read-query.reserved-connections:4}") int reservedConnections) {
+        this.executor = executor;
+        this.entityManager = entityManager;
+        this.timeout = timeout;
+        this.permits = new Semaphore(permitCount(dataSource, maxConcurrency, reservedConnections, timeout));
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setTimeout((int) Math.max(1, timeout.toSeconds()));
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> query) {
+        if (!permits.tryAcquire()) {
+            return CompletableFuture.failedFuture(new TaskRejectedException("Too many concurrent reads"));
+        }
+        try {
+            return CompletableFuture
+                    .supplyAsync(() -> {
+                        try {
+                            return readOnlyTransaction.execute(status -> {
+                                entityManager.setProperty(QUERY_TIMEOUT_HINT, timeout.toMillis());
+                                return query.get();
+                            });
+                        } finally {
+                            permits.release();
+                        }
+                    }, executor)
+                    .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RuntimeException ex) {
+            permits.release();
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    private static int permitCount(DataSource dataSource, int maxConcurrency, int reservedConnections, Duration timeout) {
+        if (!(dataSource instanceof HikariDataSource hikari)) {
+            return maxConcurrency;
+        }
+        int permits = Math.max(1, Math.min(maxConcurrency, hikari.getMaximumPoolSize() - reservedConnections));
+        if (hikari.getConnectionTimeout() >= timeout.toMillis()) {
+            log.warn("Connection timeout {}ms is not below the read timeout {}; timed-out reads may hold permits",
+                    hikari.getConnectionTimeout(), timeout);
+        }
+        log.info("Parallel reads limited to {} of {} pooled connections", permits, hikari.getMaximumPoolSize());
+        return permits;
+    }
+}
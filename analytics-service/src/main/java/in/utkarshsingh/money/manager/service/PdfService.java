@@ -0,0 +1,85 @@
+package in.utkarshsingh.money.manager.service;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.Element;
+import com.lowagie.text.Font;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.Phrase;
+import com.lowagie.text.pdf.PdfPCell;
+import com.lowagie.text.pdf.PdfPTable;
+import com.lowagie.text.pdf.PdfWriter;
+import in.utkarshsingh.money.manager.dto.projection.ReportRow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.awt.Color;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Renders report rows into a PDF table incrementally. The table is marked incomplete and
+ * added to the document every {@code chunk-rows} rows, which lays out and releases the rows
+ * written so far; fonts and the body cell style are shared instead of rebuilt per value.
+ */
+@Service
+public class PdfService {
+
+    private static final Color BRAND = new Color(88, 28, 135);
+    private static final Font TITLE_FONT = new Font(Font.HELVETICA, 18, Font.BOLD, BRAND);
+    private static final Font HEADER_FONT = new Font(Font.HELVETICA, 10, Font.BOLD, Color.WHITE);
+    private static final Font DATA_FONT = new Font(Font.HELVETICA, 9, Font.NORMAL);
+    private static final String[] HEADERS = {"#", "Name", "Category", "Amount", "Date"};
+    private static final float[] COLUMN_WIDTHS = {1f, 3f, 2f, 2f, 2f};
+
+    private final int chunkRows;
+
+    public PdfService(@Value("${analytics.export.pdf.chunk-rows:500}") int chunkRows) {
+        this.chunkRows = Math.max(1, chunkRows);
+    }
+
+    public void writeRows(OutputStream outputStream, String title, Stream<ReportRow> rows) {
+        Document document = new Document(PageSize.A4);
+        PdfWriter.getInstance(document, outputStream);
+        document.open();
+
+        Paragraph titlePara = new Paragraph(title, TITLE_FONT);
+        titlePara.setAlignment(Element.ALIGN_CENTER);
+        titlePara.setSpacingAfter(20);
+        document.add(titlePara);
+
+        PdfPTable table = new PdfPTable(COLUMN_WIDTHS);
+        table.setWidthPercentage(100);
+        table.setSpacingBefore(10);
+        table.setHeaderRows(1);
+        table.setComplete(false);
+
+        for (String h : HEADERS) {
+            PdfPCell cell = new PdfPCell(new Phrase(h, HEADER_FONT));
+            cell.setBackgroundColor(BRAND);
+            cell.setPadding(8);
+            cell.setHorizontalAlignment(Element.ALIGN_CENTER);
+            table.addCell(cell);
+        }
+
+        table.getDefaultCell().setPadding(6);
+        int idx = 0;
+        Iterator<ReportRow> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            ReportRow row = iterator.next();
+            table.addCell(new Phrase(String.valueOf(++idx), DATA_FONT));
+            table.addCell(new Phrase(row.name() != null ? row.name() : "", DATA_FONT));
+            table.addCell(new Phrase(row.categoryName() != null ? row.categoryName() : "N/A", DATA_FONT));
+            table.addCell(new Phrase(row.amount() != null ? row.amount().toPlainString() : "0", DATA_FONT));
+            table.addCell(new Phrase(row.date() != null ? row.date().toString() : "", DATA_FONT));
+            if (idx % chunkRows == 0) {
+                document.add(table);
+            }
+        }
+
+        table.setComplete(true);
+        document.add(table);
+        document.close();
+    }
+}
@@ -0,0 +1,160 @@
+package in.utkarshsingh.money.manager.service;
+
+import in.utkarshsingh.money.manager.entity.ReportAttachmentEntity;
+import in.utkarshsingh.money.manager.exceptions.ResourceNotFoundException;
+import in.utkarshsingh.money.manager.repository.ReportAttachmentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keeps emailed report attachments until email-service has delivered them. The rendered spool
+ * is moved under {@code spool-dir/attachments}, which every instance shares, and only its
+ * metadata goes to {@code tbl_report_email_attachments}; content is served from disk. Each
+ * attachment is readable only with the token published in its email event. Attachments never
+ * confirmed, including those whose email was dead-lettered, are swept after {@code attachment-ttl}.
+ */
+@Service
+@Slf4j
+public class ReportAttachmentService {
+
+    private static final String SPOOL_SUFFIX = ".spool";
+
+    private final ReportAttachmentRepository reportAttachmentRepository;
+    private final Path attachmentDir;
+    private final Duration ttl;
+
+    public ReportAttachmentService(ReportAttachmentRepository reportAttachmentRepository,
+                                   @Value("${analytics.report-jobs.spool-dir:${java.io.tmpdir}/report-spool}") String spoolDir,
+                                   @Value("${analytics.report-email.attachment-ttl:24h}") Duration ttl) throws IOException {
+        this.reportAttachmentRepository = reportAttachmentRepository;
+        this.attachmentDir = Files.createDirectories(Paths.get(spoolDir, "attachments"));
+        this.ttl = ttl;
+    }
+
+    /**
+     * Takes ownership of a rendered spool: moves it into the attachment directory and records
+     * it. The spool is deleted if it cannot be recorded.
+     */
+    public StoredAttachment store(Long profileId, ReportJobService.ReportDownload spool) {
+        String id = UUID.randomUUID().toString();
+        String token = UUID.randomUUID().toString();
+        Path file = attachmentFile(id);
+        try {
+            long size = Files.size(spool.file());
+            Files.move(spool.file(), file, StandardCopyOption.ATOMIC_MOVE);
+            reportAttachmentRepository.save(ReportAttachmentEntity.builder()
+                    .id(id)
+                    .token(token)
+                    .profileId(profileId)
+                    .fileName(spool.fileName())
+                    .contentType(spool.contentType())
+                    .sizeBytes(size)
+                    .build());
+        } catch (IOException ex) {
+            deleteQuietly(spool.file());
+            throw new UncheckedIOException("Failed storing report attachment", ex);
+        } catch (RuntimeException ex) {
+            deleteQuietly(spool.file());
+            deleteQuietly(file);
+            throw ex;
+        }
+        return new StoredAttachment(id, token);
+    }
+
+    /**
+     * Resolves an attachment for download. Not-found when the id, token or file is unknown, so
+     * email-service treats a swept attachment as gone.
+     */
+    public ReportJobService.ReportDownload find(String id, String token) {
+        ReportAttachmentEntity attachment = findAuthorized(id, token);
+        Path file = attachmentFile(id);
+        if (!Files.exists(file)) {
+            throw new ResourceNotFoundException("Report attachment", id);
+        }
+        return new ReportJobService.ReportDownload(file, attachment.getFileName(), attachment.getContentType());
+    }
+
+    /**
+     * Removes a delivered attachment. Deleting one that is already gone is a no-op, so a
+     * redelivered email event can confirm delivery again safely.
+     */
+    public void delete(String id, String token) {
+        if (reportAttachmentRepository.existsById(id)) {
+            findAuthorized(id, token);
+            deleteQuietly(attachmentFile(id));
+            reportAttachmentRepository.deleteByIds(List.of(id));
+        }
+    }
+
+    /**
+     * Runs on every instance; each step is idempotent. Removes attachments older than the TTL,
+     * then attachment files left without a row by a failed store.
+     */
+    @Scheduled(fixedDelayString = "${analytics.report-jobs.sweep-interval:5m}")
+    public void sweepExpired() {
+        List<String> expired = reportAttachmentRepository.findIdsCreatedBefore(LocalDateTime.now().minus(ttl));
+        expired.forEach(id -> deleteQuietly(attachmentFile(id)));
+        if (!expired.isEmpty()) {
+            reportAttachmentRepository.deleteByIds(expired);
+        }
+        int orphaned = purgeFilesModifiedBefore(Instant.now().minus(ttl));
+        if (!expired.isEmpty() || orphaned > 0) {
+            log.info("Swept undelivered report attachments | expired={} | orphanedFiles={}",
+                    expired.size(), orphaned);
+        }
+    }
+
+    private ReportAttachmentEntity findAuthorized(String id, String token) {
+        return reportAttachmentRepository.findById(id)
+                .filter(attachment -> token != null && MessageDigest.isEqual(
+                        attachment.getToken().getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8)))
+                .orElseThrow(() -> new ResourceNotFoundException("Report attachment", id));
+    }
+
+    private Path attachmentFile(String id) {
+        return attachmentDir.resolve(id + SPOOL_SUFFIX);
+    }
+
+    private int purgeFilesModifiedBefore(Instant cutoff) {
+        FileTime limit = FileTime.from(cutoff);
+        int purged = 0;
+        try (var files = Files.list(attachmentDir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (Files.isRegularFile(file) && Files.getLastModifiedTime(file).compareTo(limit) < 0) {
+                    deleteQuietly(file);
+                    purged++;
+                }
+            }
+        } catch (IOException ex) {
+            log.warn("Failed listing report attachments | dir={} | error={}", attachmentDir, ex.getMessage());
+        }
+        return purged;
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.warn("Failed deleting report attachment | file={} | error={}", file, ex.getMessage());
+        }
+    }
+
+    public record StoredAttachment(String id, String token) {}
+}
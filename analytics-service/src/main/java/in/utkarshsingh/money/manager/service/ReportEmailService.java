@@ -0,0 +1,125 @@
+package in.utkarshsingh.money.manager.service;
+
+import in.utkarshsingh.money.manager.config.RabbitMQConfig;
+import in.utkarshsingh.money.manager.enums.ReportFormat;
+import in.utkarshsingh.money.manager.enums.ReportType;
+import in.utkarshsingh.money.manager.event.ReportEmailEvent;
+import in.utkarshsingh.money.manager.event.ReportEmailRequest;
+import in.utkarshsingh.money.manager.security.ProfileRef;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Hands emailed reports to email-service. A request is queued durably and returns at once;
+ * a bounded set of listeners renders it, stores the attachment on the shared spool volume and
+ * publishes a small event that points email-service at it, so neither service holds the
+ * attachment in heap and bursts wait in RabbitMQ instead of being rejected by a thread pool.
+ * Rendering stays here because the financial data lives in this service's database. The
+ * stored attachment lives until email-service confirms delivery or its TTL runs out,
+ * whichever instance serves the download.
+ */
+@Service
+@Slf4j
+public class ReportEmailService {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final ReportJobService reportJobService;
+    private final ReportAttachmentService reportAttachmentService;
+    private final UserResolverService userResolverService;
+    private final String internalBaseUrl;
+    private final Counter requested;
+    private final Counter dispatched;
+    private final Counter failed;
+    private final Timer renderTimer;
+
+    public ReportEmailService(RabbitTemplate rabbitTemplate,
+                              ReportJobService reportJobService,
+                              ReportAttachmentService reportAttachmentService,
+                              UserResolverService userResolverService,
+                              AmqpAdmin amqpAdmin,
+                              MeterRegistry meterRegistry,
+                              @Value("${analytics.report-email.internal-base-url}") String internalBaseUrl) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.reportJobService = reportJobService;
+        this.reportAttachmentService = reportAttachmentService;
+        this.userResolverService = userResolverService;
+        this.internalBaseUrl = internalBaseUrl;
+        this.requested = meterRegistry.counter("report.email.requested");
+        this.dispatched = meterRegistry.counter("report.email.dispatched");
+        this.failed = meterRegistry.counter("report.email.render.failed");
+        this.renderTimer = meterRegistry.timer("report.email.render");
+        Gauge.builder("report.email.requests.pending", amqpAdmin,
+                        admin -> messageCount(admin, RabbitMQConfig.REPORT_EMAIL_REQUEST_QUEUE))
+                .description("Report email requests waiting to be rendered")
+                .register(meterRegistry);
+    }
+
+    public void requestEmail(ReportType type) {
+        ProfileRef profile = userResolverService.getCurrentProfileRef();
+        DateRange range = DateRange.of(null, null);
+        ReportEmailRequest request = ReportEmailRequest.builder()
+                .eventId(UUID.randomUUID().toString())
+                .profileId(profile.id())
+                .email(profile.email())
+                .fullName(profile.fullName())
+                .type(type)
+                .format(ReportFormat.XLSX)
+                .from(range.start().toString())
+                .to(range.end().toString())
+                .build();
+        rabbitTemplate.convertAndSend("", RabbitMQConfig.REPORT_EMAIL_REQUEST_QUEUE, request);
+        requested.increment();
+        log.info("Report email queued | profileId={} | type={}", profile.id(), type);
+    }
+
+    /**
+     * Renders, stores and publishes one report email. Any failure is rethrown so the listener
+     * can retry it; an attachment stored before a failed publish is removed first.
+     */
+    public void renderAndDispatch(ReportEmailRequest request) {
+        DateRange range = DateRange.of(LocalDate.parse(request.getFrom()), LocalDate.parse(request.getTo()));
+        ReportAttachmentService.StoredAttachment attachment = null;
+        try {
+            ReportJobService.ReportDownload report = renderTimer.record(() ->
+                    reportJobService.renderDetached(request.getProfileId(), request.getType(), request.getFormat(), range));
+            attachment = reportAttachmentService.store(request.getProfileId(), report);
+            ReportEmailEvent event = ReportEmailEvent.builder()
+                    .eventId(request.getEventId())
+                    .email(request.getEmail())
+                    .fullName(request.getFullName())
+                    .reportTitle(request.getType().getTitle())
+                    .periodStart(request.getFrom())
+                    .periodEnd(request.getTo())
+                    .fileName(report.fileName())
+                    .contentType(report.contentType())
+                    .attachmentUrl(internalBaseUrl + "/internal/reports/" + attachment.id() + "/attachment")
+                    .attachmentToken(attachment.token())
+                    .build();
+            rabbitTemplate.convertAndSend("", RabbitMQConfig.REPORT_EMAIL_QUEUE, event);
+        } catch (RuntimeException ex) {
+            failed.increment();
+            if (attachment != null) {
+                reportAttachmentService.delete(attachment.id(), attachment.token());
+            }
+            throw ex;
+        }
+        dispatched.increment();
+        log.info("Report email dispatched | profileId={} | attachmentId={}", request.getProfileId(), attachment.id());
+    }
+
+    private static double messageCount(AmqpAdmin admin, String queue) {
+        QueueInformation info = admin.getQueueInfo(queue);
+        return info != null ? info.getMessageCount() : Double.NaN;
+    }
+}
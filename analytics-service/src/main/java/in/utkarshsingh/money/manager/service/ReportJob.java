@@ -0,0 +1,73 @@
+package in.utkarshsingh.money.manager.service;
+
+import in.utkarshsingh.money.manager.enums.ReportFormat;
+import in.utkarshsingh.money.manager.enums.ReportJobStatus;
+import in.utkarshsingh.money.manager.enums.ReportType;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live state of a report job rendering on this instance. Fields written by the worker are
+ * volatile so status polls on request threads see progress without locking; every status
+ * change is also persisted as a {@code ReportJobEntity} for the other instances.
+ */
+@Getter
+class ReportJob {
+
+    private final String id;
+    private final Long profileId;
+    private final String dedupKey;
+    private final ReportType type;
+    private final ReportFormat format;
+    private final DateRange range;
+    private final Instant createdAt = Instant.now();
+    private final AtomicLong rowsWritten = new AtomicLong();
+
+    private volatile ReportJobStatus status = ReportJobStatus.QUEUED;
+    private volatile Long totalRows;
+    private volatile Path spoolFile;
+    private volatile String error;
+    private volatile Instant completedAt;
+
+    ReportJob(String id, Long profileId, String dedupKey, ReportType type, ReportFormat format, DateRange range) {
+        this.id = id;
+        this.profileId = profileId;
+        this.dedupKey = dedupKey;
+        this.type = type;
+        this.format = format;
+        this.range = range;
+    }
+
+    void running(long totalRows) {
+        this.totalRows = totalRows;
+        this.status = ReportJobStatus.RUNNING;
+    }
+
+    void rowWritten() {
+        rowsWritten.incrementAndGet();
+    }
+
+    void completed(Path spoolFile) {
+        this.spoolFile = spoolFile;
+        this.completedAt = Instant.now();
+        this.status = ReportJobStatus.COMPLETED;
+    }
+
+    void failed(String error) {
+        this.error = error;
+        this.completedAt = Instant.now();
+        this.status = ReportJobStatus.FAILED;
+    }
+
+    String fileName() {
+        return fileName(type, format, range.start(), range.end());
+    }
+
+    static String fileName(ReportType type, ReportFormat format, LocalDate start, LocalDate end) {
+        return type.getFileName() + "-" + start + "-" + end + "." + format.getExtension();
+    }
+}
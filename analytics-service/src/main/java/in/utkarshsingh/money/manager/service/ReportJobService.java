@@ -0,0 +1,292 @@
+package in.utkarshsingh.money.manager.service;
+
+import in.utkarshsingh.money.manager.dto.request.ReportJobRequest;
+import in.utkarshsingh.money.manager.dto.response.ReportJobResponse;
+import in.utkarshsingh.money.manager.entity.ReportJobEntity;
+import in.utkarshsingh.money.manager.enums.ReportFormat;
+import in.utkarshsingh.money.manager.enums.ReportJobStatus;
+import in.utkarshsingh.money.manager.enums.ReportType;
+import in.utkarshsingh.money.manager.exceptions.ResourceNotFoundException;
+import in.utkarshsingh.money.manager.exceptions.ResourceNotReadyException;
+import in.utkarshsingh.money.manager.exceptions.TooManyRequestsException;
+import in.utkarshsingh.money.manager.repository.ReportJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Renders reports off the request thread. Jobs are rendered by a bounded worker pool into
+ * spool files under {@code spool-dir}; an identical request from the same profile while a job
+ * is queued or running joins that job instead of starting another. Finished jobs and their
+ * spools are swept after {@code ttl}.
+ * <p>
+ * Job status is kept in {@code tbl_report_jobs} and {@code spool-dir} must be storage shared by
+ * every instance, so status and download calls can land on any replica. Live row progress is
+ * only reported by the instance rendering the job; the others report the last persisted state.
+ */
+@Service
+@Slf4j
+public class ReportJobService {
+
+    private static final String SPOOL_SUFFIX = ".spool";
+    private static final Set<ReportJobStatus> ACTIVE = EnumSet.of(ReportJobStatus.QUEUED, ReportJobStatus.RUNNING);
+    private static final Set<ReportJobStatus> FINISHED = EnumSet.of(ReportJobStatus.COMPLETED, ReportJobStatus.FAILED);
+
+    private final ReportService reportService;
+    private final UserResolverService userResolverService;
+    private final ReportJobRepository reportJobRepository;
+    private final Executor executor;
+    private final Path spoolDir;
+    private final Duration ttl;
+
+    private final Map<String, ReportJob> running = new ConcurrentHashMap<>();
+    private final Map<String, ReportJob> inFlight = new ConcurrentHashMap<>();
+
+    public ReportJobService(ReportService reportService,
+                            UserResolverService userResolverService,
+                            ReportJobRepository reportJobRepository,
+                            @Qualifier("reportJobExecutor") Executor executor,
+                            @Value("${analytics.report-jobs.spool-dir:${java.io.tmpdir}/report-spool}") String spoolDir,
+                            @Value("${analytics.report-jobs.ttl:1h}") Duration ttl) throws IOException {
+        this.reportService = reportService;
+        this.userResolverService = userResolverService;
+        this.reportJobRepository = reportJobRepository;
+        this.executor = executor;
+        this.spoolDir = Files.createDirectories(Paths.get(spoolDir));
+        this.ttl = ttl;
+    }
+
+    public ReportJobResponse submit(ReportJobRequest request) {
+        Long profileId = userResolverService.getCurrentProfile().getId();
+        DateRange range = DateRange.of(request.getFrom(), request.getTo());
+        String dedupKey = profileId + ":" + request.getType() + ":" + request.getFormat()
+                + ":" + range.start() + ":" + range.end();
+
+        Optional<ReportJobEntity> active = reportJobRepository.findFirstByDedupKeyAndStatusInAndCreatedAtAfter(
+                dedupKey, ACTIVE, Instant.now().minus(ttl));
+        if (active.isPresent()) {
+            return toResponse(active.get());
+        }
+
+        ReportJob job = inFlight.computeIfAbsent(dedupKey, key -> {
+            ReportJob created = new ReportJob(UUID.randomUUID().toString(), profileId, key,
+                    request.getType(), request.getFormat(), range);
+            reportJobRepository.save(toEntity(created));
+            running.put(created.getId(), created);
+            try {
+                executor.execute(() -> render(created, this::persistQuietly));
+            } catch (TaskRejectedException ex) {
+                running.remove(created.getId());
+                reportJobRepository.deleteById(created.getId());
+                throw new TooManyRequestsException("Report queue is full, please retry shortly");
+            }
+            return created;
+        });
+        return toResponse(toEntity(job));
+    }
+
+    public ReportJobResponse getStatus(String jobId) {
+        return toResponse(findOwnedJob(jobId));
+    }
+
+    /**
+     * Returns the finished spool for download. Throws not-found when the job is unknown or not
+     * owned by the caller, and a conflict when it is not finished or its spool is gone.
+     */
+    public ReportDownload getDownload(String jobId) {
+        ReportJobEntity job = findOwnedJob(jobId);
+        Path file = spoolFile(jobId);
+        if (job.getStatus() != ReportJobStatus.COMPLETED || !Files.exists(file)) {
+            throw new ResourceNotReadyException("Report job", jobId);
+        }
+        return new ReportDownload(file, ReportJob.fileName(job.getType(), job.getFormat(), job.getRangeStart(),
+                job.getRangeEnd()), job.getFormat().getContentType());
+    }
+
+    /**
+     * Renders a report synchronously on the calling thread, outside the per-profile dedup and
+     * the job table. The caller owns the returned spool and must delete it.
+     */
+    public ReportDownload renderDetached(Long profileId, ReportType type, ReportFormat format, DateRange range) {
+        String jobId = UUID.randomUUID().toString();
+        ReportJob job = new ReportJob(jobId, profileId, "detached:" + jobId, type, format, range);
+        render(job, ignored -> {});
+        if (job.getStatus() != ReportJobStatus.COMPLETED) {
+            throw new IllegalStateException("Report generation failed for job " + jobId);
+        }
+        return new ReportDownload(job.getSpoolFile(), job.fileName(), format.getContentType());
+    }
+
+    /**
+     * Runs on every instance; each step is idempotent. Removes finished jobs and their spools
+     * after {@code ttl}, fails jobs left queued or running longer than that by an instance that
+     * went away, and deletes spool files left behind longer than that.
+     */
+    @Scheduled(fixedDelayString = "${analytics.report-jobs.sweep-interval:5m}")
+    public void sweepExpired() {
+        Instant now = Instant.now();
+        Instant cutoff = now.minus(ttl);
+        List<String> expired = reportJobRepository.findIdsCompletedBefore(FINISHED, cutoff);
+        expired.forEach(id -> deleteQuietly(spoolFile(id)));
+        if (!expired.isEmpty()) {
+            reportJobRepository.deleteByIds(expired);
+        }
+        int abandoned = reportJobRepository.failCreatedBefore(ACTIVE, cutoff, ReportJobStatus.FAILED,
+                "Report generation was interrupted", now);
+        int orphaned = purgeSpoolsModifiedBefore(cutoff);
+        if (!expired.isEmpty() || abandoned > 0 || orphaned > 0) {
+            log.info("Swept report jobs | expired={} | abandoned={} | orphanedSpools={}",
+                    expired.size(), abandoned, orphaned);
+        }
+    }
+
+    private void render(ReportJob job, Consumer<ReportJob> onStatusChange) {
+        Path partial = spoolDir.resolve(job.getId() + SPOOL_SUFFIX + ".part");
+        try {
+            job.running(reportService.countRows(job.getProfileId(), job.getType(), job.getRange()));
+            onStatusChange.accept(job);
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(partial))) {
+                reportService.writeReport(job.getProfileId(), job.getType(), job.getFormat(), job.getRange(),
+                        out, job::rowWritten);
+            }
+            Path spool = Files.move(partial, spoolFile(job.getId()), StandardCopyOption.ATOMIC_MOVE);
+            job.completed(spool);
+            log.info("Report job completed | jobId={} | rows={} | bytes={}",
+                    job.getId(), job.getRowsWritten().get(), Files.size(spool));
+        } catch (Exception ex) {
+            log.error("Report job failed | jobId={} | error={}", job.getId(), ex.getMessage(), ex);
+            deleteQuietly(partial);
+            job.failed("Report generation failed");
+        }
+        try {
+            onStatusChange.accept(job);
+        } finally {
+            running.remove(job.getId(), job);
+            inFlight.remove(job.getDedupKey(), job);
+        }
+    }
+
+    private void persistQuietly(ReportJob job) {
+        try {
+            reportJobRepository.save(toEntity(job));
+        } catch (RuntimeException ex) {
+            log.warn("Failed persisting report job | jobId={} | status={} | error={}",
+                    job.getId(), job.getStatus(), ex.getMessage());
+        }
+    }
+
+    private ReportJobEntity findOwnedJob(String jobId) {
+        Long profileId = userResolverService.getCurrentProfile().getId();
+        return reportJobRepository.findById(jobId)
+                .filter(job -> job.getProfileId().equals(profileId))
+                .orElseThrow(() -> new ResourceNotFoundException("Report job", jobId));
+    }
+
+    private Path spoolFile(String jobId) {
+        return spoolDir.resolve(jobId + SPOOL_SUFFIX);
+    }
+
+    private static ReportJobEntity toEntity(ReportJob job) {
+        return ReportJobEntity.builder()
+                .id(job.getId())
+                .profileId(job.getProfileId())
+                .dedupKey(job.getDedupKey())
+                .type(job.getType())
+                .format(job.getFormat())
+                .rangeStart(job.getRange().start())
+                .rangeEnd(job.getRange().end())
+                .status(job.getStatus())
+                .rowsWritten(job.getRowsWritten().get())
+                .totalRows(job.getTotalRows())
+                .error(job.getError())
+                .createdAt(job.getCreatedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+
+    private ReportJobResponse toResponse(ReportJobEntity job) {
+        ReportJob live = running.get(job.getId());
+        long rows = live != null ? live.getRowsWritten().get() : job.getRowsWritten();
+        Long total = job.getTotalRows();
+        Integer progress = switch (job.getStatus()) {
+            case QUEUED -> 0;
+            case COMPLETED -> 100;
+            case FAILED -> null;
+            case RUNNING -> total == null || total == 0 ? 0 : (int) Math.min(99, rows * 100 / total);
+        };
+        return ReportJobResponse.builder()
+                .jobId(job.getId())
+                .type(job.getType())
+                .format(job.getFormat())
+                .from(job.getRangeStart())
+                .to(job.getRangeEnd())
+                .status(job.getStatus())
+                .rowsWritten(rows)
+                .totalRows(total)
+                .progressPercent(progress)
+                .error(job.getError())
+                .createdAt(job.getCreatedAt())
+                .completedAt(job.getCompletedAt())
+                .expiresAt(job.getCompletedAt() != null ? job.getCompletedAt().plus(ttl) : null)
+                .downloadUrl(job.getStatus() == ReportJobStatus.COMPLETED
+                        ? "/api/v1/reports/jobs/" + job.getId() + "/download" : null)
+                .build();
+    }
+
+    /**
+     * Deletes job spools, finished or partial, untouched since {@code cutoff}. Catches files left
+     * by an instance that died mid-render; spools of live jobs are always newer than the cutoff.
+     */
+    private int purgeSpoolsModifiedBefore(Instant cutoff) {
+        FileTime limit = FileTime.from(cutoff);
+        int purged = 0;
+        try (var files = Files.list(spoolDir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (Files.isRegularFile(file) && file.getFileName().toString().contains(SPOOL_SUFFIX)
+                        && Files.getLastModifiedTime(file).compareTo(limit) < 0) {
+                    deleteQuietly(file);
+                    purged++;
+                }
+            }
+        } catch (IOException ex) {
+            log.warn("Failed listing report spools | dir={} | error={}", spoolDir, ex.getMessage());
+        }
+        return purged;
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.warn("Failed deleting report spool | file={} | error={}", file, ex.getMessage());
+        }
+    }
+
+    public record ReportDownload(Path file, String fileName, String contentType) {}
+}
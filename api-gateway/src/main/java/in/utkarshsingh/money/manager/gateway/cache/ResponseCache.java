@@ -0,0 +1,125 @@
+package in.utkarshsingh.money.manager.gateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import in.utkarshsingh.money.manager.gateway.config.ResponseCacheProperties;
+import in.utkarshsingh.money.manager.gateway.response.BufferedResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Byte-bounded store of per-user responses. Invalidation is by generation rather than by scanning
+ * keys: every (user, group) pair has a stamp that a write replaces, and an entry is only served
+ * while the stamps it was stored under are still current. Stamps are taken when the request
+ * starts, so a read racing a write can never store data that outlives the write. Nothing is
+ * stored for a (user, group) pair within {@code write-grace} of its last write, which covers
+ * upstream caches that catch up with the write a little later.
+ * <p>
+ * Stamps and grace marks are per instance; writes seen by other gateway instances arrive through
+ * {@link ResponseCacheInvalidationBroadcaster}.
+ */
+@Component
+public class ResponseCache {
+
+    /** Rough per-entry overhead beyond the body: key, headers and bookkeeping. */
+    private static final int ENTRY_OVERHEAD_BYTES = 512;
+    private static final long MAX_GENERATION_KEYS = 1_000_000;
+
+    private final Cache<String, Entry> entries;
+    private final Cache<String, Long> generations;
+    private final Cache<String, Boolean> recentWrites;
+
+    public ResponseCache(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        Duration longestTtl = properties.getRoutes().values().stream()
+                .map(ResponseCacheProperties.CachedRoute::getTtl)
+                .max(Duration::compareTo)
+                .orElse(Duration.ofMinutes(1));
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxSize().toBytes())
+                .weigher((String key, Entry entry) ->
+                        entry.response().body().length + key.length() * 2 + ENTRY_OVERHEAD_BYTES)
+                .expireAfter(new UntilEntryExpiry())
+                .recordStats()
+                .build();
+        // A forgotten stamp is recreated with a new value, which only costs a spurious miss.
+        this.generations = Caffeine.newBuilder()
+                .maximumSize(MAX_GENERATION_KEYS)
+                .expireAfterAccess(longestTtl.multipliedBy(2))
+                .build();
+        this.recentWrites = Caffeine.newBuilder()
+                .maximumSize(MAX_GENERATION_KEYS)
+                .expireAfterWrite(properties.getWriteGrace())
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, "gateway.response-cache");
+    }
+
+    public long[] currentGenerations(String user, List<String> groups) {
+        long[] stamps = new long[groups.size()];
+        for (int i = 0; i < stamps.length; i++) {
+            stamps[i] = generations.get(user + '|' + groups.get(i), key -> System.nanoTime());
+        }
+        return stamps;
+    }
+
+    public Entry get(String key, String user, List<String> groups) {
+        Entry entry = entries.getIfPresent(key);
+        if (entry == null) {
+            return null;
+        }
+        if (!Arrays.equals(entry.generations(), currentGenerations(user, groups))) {
+            entries.invalidate(key);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Stores the response unless the user wrote to one of its groups within the write grace.
+     */
+    public void put(String key, String user, List<String> groups, BufferedResponse response,
+                    long[] generations, Duration ttl) {
+        for (String group : groups) {
+            if (recentWrites.getIfPresent(user + '|' + group) != null) {
+                return;
+            }
+        }
+        entries.put(key, new Entry(response, generations, System.nanoTime(), ttl.toNanos()));
+    }
+
+    public void invalidate(String user, String group) {
+        String generationKey = user + '|' + group;
+        generations.put(generationKey, System.nanoTime());
+        recentWrites.put(generationKey, Boolean.TRUE);
+    }
+
+    public record Entry(BufferedResponse response, long[] generations, long storedAtNanos, long ttlNanos) {
+
+        public long ageSeconds() {
+            return Duration.ofNanos(System.nanoTime() - storedAtNanos).toSeconds();
+        }
+    }
+
+    private static final class UntilEntryExpiry implements Expiry<String, Entry> {
+
+        @Override
+        public long expireAfterCreate(String key, Entry entry, long currentTime) {
+            return entry.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+            return entry.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package in.utkarshsingh.money.manager.gateway.cache;
+
+import in.utkarshsingh.money.manager.gateway.config.RabbitMQConfig;
+import in.utkarshsingh.money.manager.gateway.event.ResponseCacheInvalidatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Tells the other gateway instances about a user's write so they drop that user's cached
+ * responses too. Published off the event loop and best-effort: if the broker is unreachable the
+ * other instances catch up when their entries expire.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ResponseCacheInvalidationBroadcaster {
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final RabbitTemplate rabbitTemplate;
+
+    public void publish(String user, List<String> groups) {
+        ResponseCacheInvalidatedEvent event = new ResponseCacheInvalidatedEvent(instanceId, user, groups);
+        Mono.fromRunnable(() -> rabbitTemplate.convertAndSend(RabbitMQConfig.RESPONSE_CACHE_INVALIDATIONS_EXCHANGE, "", event))
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(null, ex -> log.warn("Failed broadcasting response cache invalidation | user={} | error={}",
+                        user, ex.getMessage()));
+    }
+
+    public boolean isOwn(ResponseCacheInvalidatedEvent event) {
+        return instanceId.equals(event.getOrigin());
+    }
+}
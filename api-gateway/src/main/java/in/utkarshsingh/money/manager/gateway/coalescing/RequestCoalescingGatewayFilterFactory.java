@@ -0,0 +1,124 @@
+package in.utkarshsingh.money.manager.gateway.coalescing;
+
+import in.utkarshsingh.money.manager.gateway.filter.JwtAuthFilter;
+import in.utkarshsingh.money.manager.gateway.response.BufferedResponse;
+import in.utkarshsingh.money.manager.gateway.response.CapturingResponseDecorator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Single-flight for identical GETs: while one request for a (user, path, query) is in flight,
+ * identical requests wait for it and are answered from its buffered response instead of going
+ * upstream. Opt in per route with {@code - RequestCoalescing} in the route's filters.
+ * <p>
+ * When the leader fails, streams, or returns a body over {@code maxBodyBytes}, waiters fall
+ * back to calling upstream themselves. The number of distinct in-flight keys is capped; beyond
+ * that, requests simply pass through.
+ */
+@Component
+@Slf4j
+public class RequestCoalescingGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<RequestCoalescingGatewayFilterFactory.Config> {
+
+    /** Must run before NettyWriteResponseFilter (-1) so the response decorator is in place. */
+    public static final int ORDER = -3;
+
+    private final Map<String, Mono<Optional<BufferedResponse>>> inFlight = new ConcurrentHashMap<>();
+    private final int maxInFlight;
+    private final Counter leaders;
+    private final Counter coalesced;
+    private final Counter bypassed;
+
+    public RequestCoalescingGatewayFilterFactory(@Value("${gateway.coalescing.max-in-flight:10000}") int maxInFlight,
+                                                 MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.maxInFlight = maxInFlight;
+        this.leaders = meterRegistry.counter("gateway.coalescing.upstream");
+        this.coalesced = meterRegistry.counter("gateway.coalescing.coalesced");
+        this.bypassed = meterRegistry.counter("gateway.coalescing.bypassed");
+        Gauge.builder("gateway.coalescing.in-flight", inFlight, Map::size).register(meterRegistry);
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("maxBodyBytes");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            String user = exchange.getAttribute(JwtAuthFilter.VERIFIED_USER_ATTR);
+            if (exchange.getRequest().getMethod() != HttpMethod.GET || user == null) {
+                return chain.filter(exchange);
+            }
+            String key = key(user, exchange.getRequest());
+
+            Mono<Optional<BufferedResponse>> existing = inFlight.get(key);
+            if (existing != null) {
+                return join(existing, exchange, chain);
+            }
+            if (inFlight.size() >= maxInFlight) {
+                bypassed.increment();
+                return chain.filter(exchange);
+            }
+
+            Sinks.One<Optional<BufferedResponse>> sink = Sinks.one();
+            Mono<Optional<BufferedResponse>> flight = sink.asMono();
+            existing = inFlight.putIfAbsent(key, flight);
+            if (existing != null) {
+                return join(existing, exchange, chain);
+            }
+
+            leaders.increment();
+            CapturingResponseDecorator response = new CapturingResponseDecorator(exchange.getResponse(),
+                    config.getMaxBodyBytes(), captured -> {
+                        inFlight.remove(key, flight);
+                        sink.tryEmitValue(Optional.of(captured));
+                    });
+            return chain.filter(exchange.mutate().response(response).build())
+                    .doFinally(signal -> {
+                        inFlight.remove(key, flight);
+                        sink.tryEmitValue(Optional.empty());
+                    });
+        }, ORDER);
+    }
+
+    private Mono<Void> join(Mono<Optional<BufferedResponse>> flight, ServerWebExchange exchange,
+                            GatewayFilterChain chain) {
+        coalesced.increment();
+        return flight.flatMap(result -> result.isPresent()
+                ? result.get().writeTo(exchange.getResponse())
+                : chain.filter(exchange));
+    }
+
+    private static String key(String user, ServerHttpRequest request) {
+        String query = request.getURI().getRawQuery();
+        String path = request.getURI().getRawPath();
+        return query == null ? user + ' ' + path : user + ' ' + path + '?' + query;
+    }
+
+    @Data
+    public static class Config {
+        /** Largest response body that is shared with waiters. */
+        private int maxBodyBytes = 256 * 1024;
+    }
+}
@@ -28,7 +28,7 @@ public class CorsConfig {
         config.setAllowedOrigins(allowedOrigins);
         config.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         config.setAllowedHeaders(List.of("Authorization", "Content-Type", "Accept", "X-Correlation-ID"));
-        config.setExposedHeaders(List.of("X-Correlation-ID"));
+        config.setExposedHeaders(List.of("X-Correlation-ID", "X-Cache-Age"));
         config.setAllowCredentials(true);
         config.setMaxAge(3600L);
 
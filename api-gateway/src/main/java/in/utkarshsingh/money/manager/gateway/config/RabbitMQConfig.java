@@ -0,0 +1,61 @@
+package in.utkarshsingh.money.manager.gateway.config;
+
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RabbitMQConfig {
+
+    public static final String TOKEN_REVOCATIONS_EXCHANGE = "token-revocations-exchange";
+    public static final String RESPONSE_CACHE_INVALIDATIONS_EXCHANGE = "gateway-response-cache-invalidations-exchange";
+
+    @Bean
+    public FanoutExchange tokenRevocationsExchange() {
+        return new FanoutExchange(TOKEN_REVOCATIONS_EXCHANGE);
+    }
+
+    /**
+     * One exclusive queue per gateway instance so every instance sees every revocation.
+     */
+    @Bean
+    public Queue tokenRevocationsQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding tokenRevocationsBinding(Queue tokenRevocationsQueue, FanoutExchange tokenRevocationsExchange) {
+        return BindingBuilder.bind(tokenRevocationsQueue).to(tokenRevocationsExchange);
+    }
+
+    @Bean
+    public FanoutExchange responseCacheInvalidationsExchange() {
+        return new FanoutExchange(RESPONSE_CACHE_INVALIDATIONS_EXCHANGE);
+    }
+
+    /**
+     * One exclusive queue per gateway instance so a write through any instance drops the
+     * writer's cached responses on all of them.
+     */
+    @Bean
+    public Queue responseCacheInvalidationsQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding responseCacheInvalidationsBinding(Queue responseCacheInvalidationsQueue,
+                                                     FanoutExchange responseCacheInvalidationsExchange) {
+        return BindingBuilder.bind(responseCacheInvalidationsQueue).to(responseCacheInvalidationsExchange);
+    }
+
+    @Bean
+    public MessageConverter jsonMessageConverter() {
+        return new Jackson2JsonMessageConverter();
+    }
+}
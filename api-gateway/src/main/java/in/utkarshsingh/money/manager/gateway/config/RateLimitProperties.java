@@ -0,0 +1,56 @@
+package in.utkarshsingh.money.manager.gateway.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Token-bucket limits keyed by gateway route id; routes without an entry use {@code defaults}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "gateway.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    /** Upper bound on tracked (user, route) buckets. */
+    private long maxKeys = 100_000;
+    /** Buckets untouched for this long are dropped; a full bucket has nothing worth keeping. */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+    private Limit defaults = new Limit();
+    private Map<String, Limit> routes = new HashMap<>();
+
+    public Limit limitFor(String routeId) {
+        return routes.getOrDefault(routeId, defaults);
+    }
+
+    /**
+     * Rejects non-positive values at binding time; a zero refill rate would otherwise divide by
+     * zero when the first bucket is created.
+     */
+    @Data
+    public static class Limit {
+        /** Requests allowed in a burst. */
+        private int capacity = 100;
+        /** Sustained requests per second. */
+        private double refillPerSecond = 20;
+
+        public void setCapacity(int capacity) {
+            if (capacity <= 0) {
+                throw new IllegalArgumentException("Rate limit capacity must be positive, got " + capacity);
+            }
+            this.capacity = capacity;
+        }
+
+        public void setRefillPerSecond(double refillPerSecond) {
+            if (!(refillPerSecond > 0) || Double.isInfinite(refillPerSecond)) {
+                throw new IllegalArgumentException("Rate limit refill-per-second must be positive, got " + refillPerSecond);
+            }
+            this.refillPerSecond = refillPerSecond;
+        }
+    }
+}
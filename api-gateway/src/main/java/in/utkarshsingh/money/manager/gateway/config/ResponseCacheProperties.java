@@ -0,0 +1,40 @@
+package in.utkarshsingh.money.manager.gateway.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-user GET response cache. {@code routes} lists the cached route ids and the dependency
+ * groups each one reads from; {@code groups} lists the route ids whose writes change a group.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "gateway.response-cache")
+public class ResponseCacheProperties {
+
+    private boolean enabled = true;
+    /** Total bytes of cached bodies across all users. */
+    private DataSize maxSize = DataSize.ofMegabytes(64);
+    private DataSize maxEntrySize = DataSize.ofKilobytes(256);
+    /**
+     * How long after a user's write to a group responses depending on it are not stored.
+     * Downstream caches are invalidated asynchronously, so for a moment they may still answer
+     * with data from before the write; it must not be cached for a full TTL.
+     */
+    private Duration writeGrace = Duration.ofSeconds(5);
+    private Map<String, CachedRoute> routes = new HashMap<>();
+    private Map<String, List<String>> groups = new HashMap<>();
+
+    @Data
+    public static class CachedRoute {
+        private Duration ttl = Duration.ofSeconds(30);
+        private List<String> dependsOn = List.of();
+    }
+}
@@ -0,0 +1,27 @@
+package in.utkarshsingh.money.manager.gateway.consumer;
+
+import in.utkarshsingh.money.manager.gateway.cache.ResponseCache;
+import in.utkarshsingh.money.manager.gateway.cache.ResponseCacheInvalidationBroadcaster;
+import in.utkarshsingh.money.manager.gateway.event.ResponseCacheInvalidatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ResponseCacheInvalidatedConsumer {
+
+    private final ResponseCache responseCache;
+    private final ResponseCacheInvalidationBroadcaster broadcaster;
+
+    @RabbitListener(queues = "#{responseCacheInvalidationsQueue.name}")
+    public void handleInvalidation(ResponseCacheInvalidatedEvent event) {
+        if (broadcaster.isOwn(event) || event.getUser() == null || event.getGroups() == null) {
+            return;
+        }
+        log.debug("Response cache invalidated remotely | user={} | groups={}", event.getUser(), event.getGroups());
+        event.getGroups().forEach(group -> responseCache.invalidate(event.getUser(), group));
+    }
+}
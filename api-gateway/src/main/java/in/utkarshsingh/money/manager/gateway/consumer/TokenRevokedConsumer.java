@@ -0,0 +1,22 @@
+package in.utkarshsingh.money.manager.gateway.consumer;
+
+import in.utkarshsingh.money.manager.gateway.event.TokenRevokedEvent;
+import in.utkarshsingh.money.manager.gateway.security.TokenRevocationList;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevokedConsumer {
+
+    private final TokenRevocationList tokenRevocationList;
+
+    @RabbitListener(queues = "#{tokenRevocationsQueue.name}")
+    public void handleTokenRevoked(TokenRevokedEvent event) {
+        log.debug("Token revoked | jti={} | profileId={}", event.getJti(), event.getProfileId());
+        tokenRevocationList.revoke(event.getJti(), event.getExpiresAt());
+    }
+}
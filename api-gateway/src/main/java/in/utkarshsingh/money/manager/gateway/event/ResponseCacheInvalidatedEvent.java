@@ -0,0 +1,21 @@
+package in.utkarshsingh.money.manager.gateway.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A user's write to the listed dependency groups, broadcast between gateway instances.
+ * {@code origin} identifies the sending instance, which has already invalidated locally.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResponseCacheInvalidatedEvent {
+
+    private String origin;
+    private String user;
+    private List<String> groups;
+}
@@ -0,0 +1,19 @@
+package in.utkarshsingh.money.manager.gateway.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Gateway-side copy of auth-service's revocation broadcast; the gateway does not depend on
+ * common-lib.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenRevokedEvent {
+
+    private String jti;
+    private Long profileId;
+    private long expiresAt;
+}
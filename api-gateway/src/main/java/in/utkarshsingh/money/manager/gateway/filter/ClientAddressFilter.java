@@ -0,0 +1,82 @@
+package in.utkarshsingh.money.manager.gateway.filter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Resolves the client address once and hands it on in {@link #CLIENT_IP_HEADER}, overwriting
+ * whatever the client sent, so services and later filters never trust a client-supplied value.
+ * X-Forwarded-For is only consulted when the connection comes from a proxy matching
+ * {@code gateway.client-address.trusted-proxies}; the address used is then the nearest hop that
+ * is not itself a trusted proxy. With no trusted proxies configured the gateway assumes it is
+ * exposed directly and uses the socket's remote address.
+ */
+@Component
+public class ClientAddressFilter implements GlobalFilter, Ordered {
+
+    /** Exchange attribute holding the resolved client address for later filters. */
+    public static final String CLIENT_ADDRESS_ATTR = ClientAddressFilter.class.getName() + ".clientAddress";
+    public static final String CLIENT_IP_HEADER = "X-Client-Ip";
+
+    /** Ahead of {@link JwtAuthFilter}, so every later filter sees the resolved address. */
+    public static final int ORDER = JwtAuthFilter.ORDER - 5;
+
+    private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+    private static final String UNKNOWN = "unknown";
+
+    private final Pattern trustedProxies;
+
+    public ClientAddressFilter(@Value("${gateway.client-address.trusted-proxies:}") String trustedProxies) {
+        this.trustedProxies = trustedProxies.isBlank() ? null : Pattern.compile(trustedProxies);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        String clientAddress = resolve(exchange.getRequest());
+        exchange.getAttributes().put(CLIENT_ADDRESS_ATTR, clientAddress);
+        ServerHttpRequest request = exchange.getRequest().mutate()
+                .headers(headers -> headers.set(CLIENT_IP_HEADER, clientAddress))
+                .build();
+        return chain.filter(exchange.mutate().request(request).build());
+    }
+
+    String resolve(ServerHttpRequest request) {
+        InetSocketAddress remote = request.getRemoteAddress();
+        String address = remote != null && remote.getAddress() != null
+                ? remote.getAddress().getHostAddress() : UNKNOWN;
+        if (!isTrustedProxy(address)) {
+            return address;
+        }
+        List<String> forwardedFor = request.getHeaders().getValuesAsList(FORWARDED_FOR_HEADER);
+        for (int i = forwardedFor.size() - 1; i >= 0; i--) {
+            String hop = forwardedFor.get(i).trim();
+            if (hop.isEmpty()) {
+                continue;
+            }
+            if (!isTrustedProxy(hop)) {
+                return hop;
+            }
+            address = hop;
+        }
+        return address;
+    }
+
+    private boolean isTrustedProxy(String address) {
+        return trustedProxies != null && trustedProxies.matcher(address).matches();
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+}
@@ -1,10 +1,10 @@
 package in.utkarshsingh.money.manager.gateway.filter;
 
+import in.utkarshsingh.money.manager.gateway.security.JwtClaimsVerifier;
+import in.utkarshsingh.money.manager.gateway.security.TokenRevocationList;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
 import org.springframework.core.Ordered;
@@ -18,15 +18,25 @@ import reactor.core.publisher.Mono;
 import java.util.List;
 
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class JwtAuthFilter implements GlobalFilter, Ordered {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    /** Exchange attribute holding the verified caller (profile id, else email) for later filters. */
+    public static final String VERIFIED_USER_ATTR = JwtAuthFilter.class.getName() + ".verifiedUser";
+
+    /** Ahead of every response-decorating filter, which must themselves precede the Netty write (-1). */
+    public static final int ORDER = -10;
+
+    private static final String PROFILE_ID_CLAIM = "profileId";
+
+    private final JwtClaimsVerifier jwtClaimsVerifier;
+    private final TokenRevocationList tokenRevocationList;
 
     private static final List<String> PUBLIC_PATHS = List.of(
             "/api/v1/register",
             "/api/v1/login",
+            "/api/v1/token/refresh",
             "/api/v1/activate",
             "/api/v1/support",
             "/api/health",
@@ -49,15 +59,25 @@ public class JwtAuthFilter implements GlobalFilter, Ordered {
 
         try {
             String token = authHeader.substring(7);
-            Claims claims = Jwts.parser()
-                    .setSigningKey(Keys.hmacShaKeyFor(secret.getBytes()))
-                    .parseClaimsJws(token)
-                    .getBody();
+            Claims claims = jwtClaimsVerifier.verify(token);
+            if (tokenRevocationList.isRevoked(claims.getId())) {
+                exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+                return exchange.getResponse().setComplete();
+            }
 
             String email = claims.getSubject();
+            Object profileId = claims.get(PROFILE_ID_CLAIM);
+            exchange.getAttributes().put(VERIFIED_USER_ATTR, profileId != null ? profileId.toString() : email);
 
             ServerHttpRequest mutatedRequest = exchange.getRequest().mutate()
-                    .header("X-User-Email", email)
+                    .headers(headers -> {
+                        headers.set("X-User-Email", email);
+                        if (profileId != null) {
+                            headers.set("X-User-Id", profileId.toString());
+                        } else {
+                            headers.remove("X-User-Id");
+                        }
+                    })
                     .build();
 
             return chain.filter(exchange.mutate().request(mutatedRequest).build());
@@ -74,6 +94,6 @@ public class JwtAuthFilter implements GlobalFilter, Ordered {
 
     @Override
     public int getOrder() {
-        return -1;
+        return ORDER;
     }
 }
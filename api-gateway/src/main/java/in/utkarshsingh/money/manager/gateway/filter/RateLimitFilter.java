@@ -0,0 +1,82 @@
+package in.utkarshsingh.money.manager.gateway.filter;
+
+import in.utkarshsingh.money.manager.gateway.config.RateLimitProperties;
+import in.utkarshsingh.money.manager.gateway.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-user, per-route token buckets. Runs after {@link JwtAuthFilter}, so authenticated calls
+ * are keyed by the verified user rather than any client-supplied header; public routes fall
+ * back to the address resolved by {@link ClientAddressFilter}. Behind a load balancer that
+ * address is only per-client when the balancer is listed in
+ * {@code gateway.client-address.trusted-proxies}; otherwise every client shares its bucket.
+ */
+@Component
+public class RateLimitFilter implements GlobalFilter, Ordered {
+
+    public static final int ORDER = JwtAuthFilter.ORDER + 5;
+
+    static final String LIMIT_HEADER = "X-RateLimit-Limit";
+    static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> rejectedByRoute = new ConcurrentHashMap<>();
+
+    public RateLimitFilter(RateLimiter rateLimiter, RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (!properties.isEnabled() || route == null) {
+            return chain.filter(exchange);
+        }
+        RateLimiter.Decision decision = rateLimiter.tryAcquire(caller(exchange), route.getId());
+        HttpHeaders headers = exchange.getResponse().getHeaders();
+        headers.set(LIMIT_HEADER, String.valueOf(decision.limit()));
+        headers.set(REMAINING_HEADER, String.valueOf(decision.remaining()));
+        if (decision.allowed()) {
+            return chain.filter(exchange);
+        }
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(decision.retryAfterNanos() + 999_999_999L));
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        rejectedByRoute.computeIfAbsent(route.getId(),
+                id -> meterRegistry.counter("gateway.rate-limit.rejected", "route", id)).increment();
+        exchange.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        return exchange.getResponse().setComplete();
+    }
+
+    private static String caller(ServerWebExchange exchange) {
+        String user = exchange.getAttribute(JwtAuthFilter.VERIFIED_USER_ATTR);
+        if (user != null) {
+            return "user:" + user;
+        }
+        String clientAddress = exchange.getAttribute(ClientAddressFilter.CLIENT_ADDRESS_ATTR);
+        return "ip:" + (clientAddress != null ? clientAddress : "unknown");
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+}
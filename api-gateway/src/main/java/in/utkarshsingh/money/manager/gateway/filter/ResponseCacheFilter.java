@@ -0,0 +1,145 @@
+package in.utkarshsingh.money.manager.gateway.filter;
+
+import in.utkarshsingh.money.manager.gateway.cache.ResponseCache;
+import in.utkarshsingh.money.manager.gateway.cache.ResponseCacheInvalidationBroadcaster;
+import in.utkarshsingh.money.manager.gateway.config.ResponseCacheProperties;
+import in.utkarshsingh.money.manager.gateway.response.CapturingResponseDecorator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Serves configured GET routes from a per-user {@link ResponseCache} and drops a user's entries
+ * when that user writes through any route in a group the cached route depends on; for a short
+ * grace period after such a write, fresh responses are served but not stored. Once a write
+ * completes it is broadcast so the other gateway instances drop the same entries. Runs after
+ * the rate limiter, so hits still count against the caller's limit, and ahead of request
+ * coalescing: a miss shared by several waiters reaches the upstream once, but each waiter's
+ * capture stores that same response again under the same key.
+ */
+@Component
+public class ResponseCacheFilter implements GlobalFilter, Ordered {
+
+    public static final int ORDER = RateLimitFilter.ORDER + 1;
+
+    static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    private static final Set<HttpMethod> MUTATING_METHODS =
+            Set.of(HttpMethod.POST, HttpMethod.PUT, HttpMethod.PATCH, HttpMethod.DELETE);
+
+    private final ResponseCache responseCache;
+    private final ResponseCacheInvalidationBroadcaster invalidationBroadcaster;
+    private final ResponseCacheProperties properties;
+    private final Map<String, List<String>> groupsWrittenByRoute = new HashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter invalidations;
+
+    public ResponseCacheFilter(ResponseCache responseCache,
+                               ResponseCacheInvalidationBroadcaster invalidationBroadcaster,
+                               ResponseCacheProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.responseCache = responseCache;
+        this.invalidationBroadcaster = invalidationBroadcaster;
+        this.properties = properties;
+        properties.getGroups().forEach((group, routeIds) -> routeIds.forEach(routeId ->
+                groupsWrittenByRoute.computeIfAbsent(routeId, id -> new ArrayList<>()).add(group)));
+        this.hits = meterRegistry.counter("gateway.response-cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("gateway.response-cache.requests", "result", "miss");
+        this.invalidations = meterRegistry.counter("gateway.response-cache.invalidations");
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String user = exchange.getAttribute(JwtAuthFilter.VERIFIED_USER_ATTR);
+        if (!properties.isEnabled() || route == null || user == null) {
+            return chain.filter(exchange);
+        }
+        HttpMethod method = exchange.getRequest().getMethod();
+        if (MUTATING_METHODS.contains(method)) {
+            List<String> groups = groupsWrittenByRoute.get(route.getId());
+            if (groups == null) {
+                return chain.filter(exchange);
+            }
+            invalidate(user, groups);
+            return chain.filter(exchange).doFinally(signal -> {
+                invalidate(user, groups);
+                invalidationBroadcaster.publish(user, groups);
+            });
+        }
+        ResponseCacheProperties.CachedRoute cachedRoute = properties.getRoutes().get(route.getId());
+        if (method != HttpMethod.GET || cachedRoute == null) {
+            return chain.filter(exchange);
+        }
+        if (isNoCache(exchange.getRequest().getHeaders())) {
+            exchange.getResponse().getHeaders().set(CACHE_STATUS_HEADER, "BYPASS");
+            return chain.filter(exchange);
+        }
+
+        String key = key(user, route.getId(), exchange);
+        List<String> dependsOn = cachedRoute.getDependsOn();
+        ResponseCache.Entry entry = responseCache.get(key, user, dependsOn);
+        if (entry != null) {
+            hits.increment();
+            HttpHeaders headers = exchange.getResponse().getHeaders();
+            headers.set(CACHE_STATUS_HEADER, "HIT");
+            headers.set(HttpHeaders.AGE, String.valueOf(entry.ageSeconds()));
+            return entry.response().writeTo(exchange.getResponse());
+        }
+
+        misses.increment();
+        long[] generations = responseCache.currentGenerations(user, dependsOn);
+        exchange.getResponse().getHeaders().set(CACHE_STATUS_HEADER, "MISS");
+        CapturingResponseDecorator response = new CapturingResponseDecorator(exchange.getResponse(),
+                (int) properties.getMaxEntrySize().toBytes(), captured -> {
+                    if (captured.status().value() == HttpStatus.OK.value() && !isNoStore(captured.headers())) {
+                        responseCache.put(key, user, dependsOn, captured, generations, cachedRoute.getTtl());
+                    }
+                });
+        return chain.filter(exchange.mutate().response(response).build());
+    }
+
+    private void invalidate(String user, List<String> groups) {
+        groups.forEach(group -> responseCache.invalidate(user, group));
+        invalidations.increment();
+    }
+
+    private static String key(String user, String routeId, ServerWebExchange exchange) {
+        String path = exchange.getRequest().getURI().getRawPath();
+        String query = exchange.getRequest().getURI().getRawQuery();
+        return user + '|' + routeId + '|' + (query == null ? path : path + '?' + query);
+    }
+
+    private static boolean isNoCache(HttpHeaders headers) {
+        String cacheControl = headers.getCacheControl();
+        return cacheControl != null && cacheControl.contains("no-cache");
+    }
+
+    private static boolean isNoStore(HttpHeaders headers) {
+        String cacheControl = headers.getCacheControl();
+        return cacheControl != null && cacheControl.contains(CacheControl.noStore().getHeaderValue());
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+}
@@ -0,0 +1,44 @@
+package in.utkarshsingh.money.manager.gateway.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import in.utkarshsingh.money.manager.gateway.config.RateLimitProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds one token bucket per (caller, route) in a size-bounded Caffeine cache, whose striped
+ * internals keep concurrent lookups from contending. Idle buckets expire, which is equivalent
+ * to them refilling completely.
+ */
+@Component
+public class RateLimiter {
+
+    private final RateLimitProperties properties;
+    private final Cache<String, TokenBucket> buckets;
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxKeys())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, "gateway.rate-limit.buckets");
+    }
+
+    public Decision tryAcquire(String caller, String routeId) {
+        RateLimitProperties.Limit limit = properties.limitFor(routeId);
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(caller + '|' + routeId,
+                key -> new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond(), now));
+        long result = bucket.tryConsume(now);
+        return result >= 0
+                ? new Decision(true, limit.getCapacity(), result, 0)
+                : new Decision(false, limit.getCapacity(), 0, -result);
+    }
+
+    public record Decision(boolean allowed, int limit, long remaining, long retryAfterNanos) {
+    }
+}
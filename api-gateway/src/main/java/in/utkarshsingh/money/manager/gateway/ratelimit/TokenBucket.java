@@ -0,0 +1,39 @@
+package in.utkarshsingh.money.manager.gateway.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket stored as a single theoretical-arrival time (GCRA). Taking a token
+ * pushes that time forward by one refill interval; the request is allowed while the time stays
+ * within {@code capacity} intervals of now.
+ */
+final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(int capacity, double refillPerSecond, long now) {
+        this.intervalNanos = (long) (1_000_000_000L / refillPerSecond);
+        this.burstNanos = intervalNanos * capacity;
+        this.theoreticalArrival = new AtomicLong(now);
+    }
+
+    /**
+     * Returns the tokens left after taking one, or a negative number of nanoseconds to wait
+     * until a token is available.
+     */
+    long tryConsume(long now) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long ahead = next - now;
+            if (ahead > burstNanos) {
+                return -(ahead - burstNanos);
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return (burstNanos - ahead) / intervalNanos;
+            }
+        }
+    }
+}
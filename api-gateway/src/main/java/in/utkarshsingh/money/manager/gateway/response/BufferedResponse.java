@@ -0,0 +1,42 @@
+package in.utkarshsingh.money.manager.gateway.response;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+
+/**
+ * A fully buffered upstream response that can be written to any number of other exchanges.
+ */
+public record BufferedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+
+    /** Headers tied to one particular response rather than to the content. */
+    private static final Set<String> EXCLUDED_HEADERS = Set.of(
+            HttpHeaders.CONTENT_LENGTH.toLowerCase(),
+            HttpHeaders.TRANSFER_ENCODING.toLowerCase(),
+            HttpHeaders.CONNECTION.toLowerCase(),
+            HttpHeaders.RETRY_AFTER.toLowerCase(),
+            HttpHeaders.AGE.toLowerCase(),
+            "x-cache",
+            "x-ratelimit-limit",
+            "x-ratelimit-remaining");
+
+    public static BufferedResponse of(HttpStatusCode status, HttpHeaders source, byte[] body) {
+        HttpHeaders headers = new HttpHeaders();
+        source.forEach((name, values) -> {
+            if (!EXCLUDED_HEADERS.contains(name.toLowerCase())) {
+                headers.addAll(name, values);
+            }
+        });
+        return new BufferedResponse(status, HttpHeaders.readOnlyHttpHeaders(headers), body);
+    }
+
+    public Mono<Void> writeTo(ServerHttpResponse response) {
+        response.setStatusCode(status);
+        response.getHeaders().putAll(headers);
+        response.getHeaders().setContentLength(body.length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+}
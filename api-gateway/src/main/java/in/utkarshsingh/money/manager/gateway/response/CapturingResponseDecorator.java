@@ -0,0 +1,95 @@
+package in.utkarshsingh.money.manager.gateway.response;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Buffers the body the upstream writes, hands a copy to {@code onCaptured} and then writes it
+ * on unchanged. Bytes are counted as they arrive: a body declared larger than {@code maxBytes}
+ * is never buffered, and one that grows past it mid-stream (chunked) flushes what was held and
+ * passes the rest through without being handed over. Streaming writes are never captured.
+ */
+public class CapturingResponseDecorator extends ServerHttpResponseDecorator {
+
+    private final int maxBytes;
+    private final Consumer<BufferedResponse> onCaptured;
+
+    public CapturingResponseDecorator(ServerHttpResponse delegate, int maxBytes, Consumer<BufferedResponse> onCaptured) {
+        super(delegate);
+        this.maxBytes = maxBytes;
+        this.onCaptured = onCaptured;
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+        if (getHeaders().getContentLength() > maxBytes) {
+            return super.writeWith(body);
+        }
+        return super.writeWith(Flux.defer(() -> {
+            Capture capture = new Capture();
+            return Flux.from(body)
+                    .concatMap(capture::offer)
+                    .concatWith(Mono.defer(capture::finish))
+                    .doFinally(signal -> capture.releaseHeld());
+        }));
+    }
+
+    /**
+     * Per-write state. Only touched from the serialized {@code concatMap} and its termination.
+     */
+    private final class Capture {
+
+        private final List<DataBuffer> held = new ArrayList<>();
+        private int size;
+        private boolean passThrough;
+
+        Flux<DataBuffer> offer(DataBuffer buffer) {
+            if (passThrough) {
+                return Flux.just(buffer);
+            }
+            size += buffer.readableByteCount();
+            if (size <= maxBytes) {
+                held.add(buffer);
+                return Flux.empty();
+            }
+            passThrough = true;
+            List<DataBuffer> flushed = new ArrayList<>(held);
+            flushed.add(buffer);
+            held.clear();
+            return Flux.fromIterable(flushed);
+        }
+
+        Mono<DataBuffer> finish() {
+            if (passThrough) {
+                return Mono.empty();
+            }
+            byte[] bytes = new byte[size];
+            int offset = 0;
+            for (DataBuffer buffer : held) {
+                int length = buffer.readableByteCount();
+                buffer.read(bytes, offset, length);
+                offset += length;
+                DataBufferUtils.release(buffer);
+            }
+            held.clear();
+            if (getStatusCode() != null) {
+                onCaptured.accept(BufferedResponse.of(getStatusCode(), getHeaders(), bytes));
+            }
+            return Mono.just(bufferFactory().wrap(bytes));
+        }
+
+        void releaseHeld() {
+            held.forEach(DataBufferUtils::release);
+            held.clear();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package in.utkarshsingh.money.manager.gateway.security;
+
+import in.utkarshsingh.money.manager.gateway.event.TokenRevokedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+
+/**
+ * Fills the revocation list from auth-service on startup and then periodically, which also
+ * covers any broadcast this instance missed while it was down or disconnected. The internal
+ * endpoint is authenticated with the shared {@code X-Internal-Token}.
+ */
+@Component
+@Slf4j
+public class RevocationListLoader {
+
+    private static final String INTERNAL_TOKEN_HEADER = "X-Internal-Token";
+
+    private final TokenRevocationList tokenRevocationList;
+    private final WebClient webClient;
+    private final String revocationsUrl;
+    private final String internalToken;
+
+    public RevocationListLoader(TokenRevocationList tokenRevocationList,
+                                WebClient.Builder webClientBuilder,
+                                @Value("${jwt.revocation.bootstrap-url}") String revocationsUrl,
+                                @Value("${jwt.revocation.internal-token:}") String internalToken) {
+        this.tokenRevocationList = tokenRevocationList;
+        this.webClient = webClientBuilder.build();
+        this.revocationsUrl = revocationsUrl;
+        this.internalToken = internalToken;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        load(Retry.backoff(10, Duration.ofSeconds(2)).maxBackoff(Duration.ofMinutes(1)));
+    }
+
+    @Scheduled(initialDelayString = "${jwt.revocation.reload-interval:10m}",
+            fixedDelayString = "${jwt.revocation.reload-interval:10m}")
+    public void reload() {
+        load(Retry.max(0));
+    }
+
+    private void load(Retry retry) {
+        webClient.get()
+                .uri(revocationsUrl)
+                .header(INTERNAL_TOKEN_HEADER, internalToken)
+                .retrieve()
+                .bodyToFlux(TokenRevokedEvent.class)
+                .doOnNext(event -> tokenRevocationList.revoke(event.getJti(), event.getExpiresAt()))
+                .count()
+                .retryWhen(retry)
+                .subscribe(
+                        count -> log.info("Loaded token revocations | count={}", count),
+                        ex -> log.warn("Could not load token revocations | error={}", ex.getMessage()));
+    }
+}
@@ -0,0 +1,155 @@
+package in.utkarshsingh.money.manager.gateway.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-memory set of revoked token ids. Lookups go to a Bloom filter first, so the common case
+ * (token not revoked) costs a few bit reads and no allocation. Only a Bloom positive consults
+ * the exact map, which also holds each id's expiry so entries can be dropped once the token
+ * could no longer be used. The filter cannot delete, so it is rebuilt from the map whenever
+ * expired ids are purged.
+ */
+@Component
+@Slf4j
+public class TokenRevocationList {
+
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Counter bloomPositives;
+    private final Counter falsePositives;
+    private volatile BloomFilter filter;
+
+    public TokenRevocationList(@Value("${jwt.revocation.expected-insertions:100000}") long expectedInsertions,
+                               @Value("${jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate,
+                               MeterRegistry meterRegistry) {
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        this.bloomPositives = meterRegistry.counter("jwt.revocation.bloom-positives");
+        this.falsePositives = meterRegistry.counter("jwt.revocation.false-positives");
+        Gauge.builder("jwt.revocation.size", revoked, Map::size)
+                .description("Revoked token ids held in memory")
+                .register(meterRegistry);
+    }
+
+    public boolean isRevoked(String jti) {
+        if (jti == null || !filter.mightContain(jti)) {
+            return false;
+        }
+        bloomPositives.increment();
+        Long expiresAt = revoked.get(jti);
+        if (expiresAt == null) {
+            falsePositives.increment();
+            return false;
+        }
+        return expiresAt > System.currentTimeMillis();
+    }
+
+    /**
+     * Writers are rare (logouts and reloads) and synchronize with the rebuild so an id is never
+     * added to a filter that is about to be replaced.
+     */
+    public synchronized void revoke(String jti, long expiresAt) {
+        if (jti == null || expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+        revoked.put(jti, expiresAt);
+        filter.put(jti);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval:5m}")
+    public synchronized void purgeExpired() {
+        long now = System.currentTimeMillis();
+        int before = revoked.size();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+        int removed = before - revoked.size();
+        if (removed == 0) {
+            return;
+        }
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, revoked.size() * 2L), falsePositiveRate);
+        revoked.keySet().forEach(rebuilt::put);
+        filter = rebuilt;
+        log.info("Purged expired token revocations | removed={} | remaining={}", removed, revoked.size());
+    }
+
+    /**
+     * Lock-free Bloom filter over a word array, using double hashing of one 64-bit string hash.
+     */
+    static final class BloomFilter {
+
+        private final AtomicLongArray words;
+        private final long bitCount;
+        private final int hashCount;
+
+        BloomFilter(long expectedInsertions, double falsePositiveRate) {
+            long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.words = new AtomicLongArray((int) Math.max(1, (bits + 63) / 64));
+            this.bitCount = words.length() * 64L;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        }
+
+        void put(String key) {
+            long hash1 = hash(key);
+            long hash2 = mix(hash1 + 0x9E3779B97F4A7C15L) | 1;
+            long combined = hash1;
+            for (int i = 0; i < hashCount; i++) {
+                long index = (combined & Long.MAX_VALUE) % bitCount;
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                long current;
+                while (((current = words.get(word)) & mask) == 0
+                        && !words.compareAndSet(word, current, current | mask)) {
+                    Thread.onSpinWait();
+                }
+                combined += hash2;
+            }
+        }
+
+        boolean mightContain(String key) {
+            long hash1 = hash(key);
+            long hash2 = mix(hash1 + 0x9E3779B97F4A7C15L) | 1;
+            long combined = hash1;
+            for (int i = 0; i < hashCount; i++) {
+                long index = (combined & Long.MAX_VALUE) % bitCount;
+                if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+                combined += hash2;
+            }
+            return true;
+        }
+
+        /**
+         * FNV-1a over the string's chars, finished with a 64-bit mixer; reads the chars in place
+         * rather than encoding the string to bytes.
+         */
+        private static long hash(String key) {
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < key.length(); i++) {
+                hash ^= key.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            return mix(hash);
+        }
+
+        private static long mix(long value) {
+            value ^= value >>> 33;
+            value *= 0xff51afd7ed558ccdL;
+            value ^= value >>> 33;
+            value *= 0xc4ceb9fe1a85ec53L;
+            value ^= value >>> 33;
+            return value;
+        }
+    }
+}
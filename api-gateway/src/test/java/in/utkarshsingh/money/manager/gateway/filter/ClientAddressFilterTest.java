@@ -0,0 +1,49 @@
+package in.utkarshsingh.money.manager.gateway.filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+
+import java.net.InetSocketAddress;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientAddressFilterTest {
+
+    private static final String LOAD_BALANCER = "10.0.0.5";
+
+    @Test
+    void directExposure_ignoresForwardedFor() {
+        ClientAddressFilter filter = new ClientAddressFilter("");
+
+        MockServerHttpRequest request = MockServerHttpRequest.get("/api/v1/login")
+                .remoteAddress(new InetSocketAddress("203.0.113.7", 40000))
+                .header("X-Forwarded-For", "198.51.100.1")
+                .build();
+
+        assertThat(filter.resolve(request)).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void trustedProxy_usesNearestUntrustedHop() {
+        ClientAddressFilter filter = new ClientAddressFilter("10\\.0\\.0\\.\\d+");
+
+        MockServerHttpRequest request = MockServerHttpRequest.get("/api/v1/login")
+                .remoteAddress(new InetSocketAddress(LOAD_BALANCER, 40000))
+                .header("X-Forwarded-For", "198.51.100.1, 203.0.113.7, 10.0.0.9")
+                .build();
+
+        assertThat(filter.resolve(request)).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void untrustedPeer_cannotForgeForwardedFor() {
+        ClientAddressFilter filter = new ClientAddressFilter("10\\.0\\.0\\.\\d+");
+
+        MockServerHttpRequest request = MockServerHttpRequest.get("/api/v1/login")
+                .remoteAddress(new InetSocketAddress("203.0.113.7", 40000))
+                .header("X-Forwarded-For", "10.0.0.9")
+                .build();
+
+        assertThat(filter.resolve(request)).isEqualTo("203.0.113.7");
+    }
+}
@@ -0,0 +1,66 @@
+package in.utkarshsingh.money.manager.gateway.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private static final int CAPACITY = 50;
+    private static final double REFILL_PER_SECOND = 10;
+    private static final long INTERVAL_NANOS = 100_000_000L;
+
+    @Test
+    void concurrentConsumers_getExactlyCapacityGrants() throws Exception {
+        long now = 1_000_000_000L;
+        TokenBucket bucket = new TokenBucket(CAPACITY, REFILL_PER_SECOND, now);
+        int threads = 16;
+        int attemptsPerThread = 1_000;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    int granted = 0;
+                    for (int i = 0; i < attemptsPerThread; i++) {
+                        if (bucket.tryConsume(now) >= 0) {
+                            granted++;
+                        }
+                    }
+                    return granted;
+                }));
+            }
+            start.countDown();
+
+            int granted = 0;
+            for (Future<Integer> result : results) {
+                granted += result.get();
+            }
+            assertThat(granted).isEqualTo(CAPACITY);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void emptyBucket_refillsOneTokenPerInterval() {
+        long now = 1_000_000_000L;
+        TokenBucket bucket = new TokenBucket(CAPACITY, REFILL_PER_SECOND, now);
+        for (int i = 0; i < CAPACITY; i++) {
+            assertThat(bucket.tryConsume(now)).isGreaterThanOrEqualTo(0);
+        }
+
+        assertThat(bucket.tryConsume(now)).isEqualTo(-INTERVAL_NANOS);
+        assertThat(bucket.tryConsume(now + INTERVAL_NANOS)).isZero();
+        assertThat(bucket.tryConsume(now + INTERVAL_NANOS)).isNegative();
+    }
+}
@@ -0,0 +1,63 @@
+package in.utkarshsingh.money.manager.gateway.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenRevocationListTest {
+
+    private static final int ENTRIES = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+
+    @Test
+    void bloomFilter_hasNoFalseNegatives() {
+        TokenRevocationList.BloomFilter filter = new TokenRevocationList.BloomFilter(ENTRIES, FALSE_POSITIVE_RATE);
+        for (int i = 0; i < ENTRIES; i++) {
+            filter.put(key("revoked", i));
+        }
+
+        for (int i = 0; i < ENTRIES; i++) {
+            assertThat(filter.mightContain(key("revoked", i))).isTrue();
+        }
+    }
+
+    @Test
+    void bloomFilter_staysNearConfiguredFalsePositiveRateWhenFull() {
+        TokenRevocationList.BloomFilter filter = new TokenRevocationList.BloomFilter(ENTRIES, FALSE_POSITIVE_RATE);
+        for (int i = 0; i < ENTRIES; i++) {
+            filter.put(key("revoked", i));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < ENTRIES; i++) {
+            if (filter.mightContain(key("active", i))) {
+                falsePositives++;
+            }
+        }
+        assertThat((double) falsePositives / ENTRIES).isLessThan(FALSE_POSITIVE_RATE * 2);
+    }
+
+    @Test
+    void purgeExpired_rebuildsFilterWithoutExpiredIds() throws InterruptedException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TokenRevocationList list = new TokenRevocationList(1_000, FALSE_POSITIVE_RATE, meterRegistry);
+        long now = System.currentTimeMillis();
+        list.revoke("expiring", now + 50);
+        list.revoke("live", now + 60_000);
+        Thread.sleep(100);
+
+        list.purgeExpired();
+
+        double bloomPositivesBefore = meterRegistry.counter("jwt.revocation.bloom-positives").count();
+        assertThat(list.isRevoked("expiring")).isFalse();
+        assertThat(meterRegistry.counter("jwt.revocation.bloom-positives").count()).isEqualTo(bloomPositivesBefore);
+        assertThat(list.isRevoked("live")).isTrue();
+    }
+
+    private static String key(String prefix, int i) {
+        return UUID.nameUUIDFromBytes((prefix + i).getBytes()).toString();
+    }
+}
@@ -1,27 +1,53 @@
 package in.utkarshsingh.money.manager.adapter.messaging;
 
 import in.utkarshsingh.money.manager.config.RabbitMQConfig;
+import in.utkarshsingh.money.manager.event.EncodedEvent;
 import in.utkarshsingh.money.manager.event.ProfileActivationEvent;
+import in.utkarshsingh.money.manager.event.ProfileChangedEvent;
+import in.utkarshsingh.money.manager.event.TokenRevokedEvent;
 import in.utkarshsingh.money.manager.port.EventPublisher;
+import in.utkarshsingh.money.manager.util.BinaryEventCodec;
 import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+
 @Component
 @RequiredArgsConstructor
 public class RabbitEventPublisher implements EventPublisher {
 
+    private static final String TYPE_ID_HEADER = "__TypeId__";
+
     private final RabbitTemplate rabbitTemplate;
 
     @Override
-    public void publishProfileActivation(ProfileActivationEvent event, String eventId) {
-        rabbitTemplate.convertAndSend(
-                RabbitMQConfig.PROFILE_ACTIVATION_QUEUE,
-                event,
-                message -> {
-                    message.getMessageProperties().setHeader("eventId", eventId);
-                    return message;
-                }
-        );
+    public CompletableFuture<Boolean> publishProfileActivation(EncodedEvent event) {
+        Message message = MessageBuilder.withBody(event.body())
+                .setContentType(event.contentType())
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                .setTimestamp(Date.from(event.occurredAt()))
+                .setHeader("eventId", event.eventId())
+                .setHeader(BinaryEventCodec.SCHEMA_VERSION_HEADER, event.schemaVersion())
+                .setHeader(TYPE_ID_HEADER, ProfileActivationEvent.class.getName())
+                .build();
+        CorrelationData correlation = new CorrelationData(event.eventId());
+        rabbitTemplate.send("", RabbitMQConfig.PROFILE_ACTIVATION_QUEUE, message, correlation);
+        return correlation.getFuture().thenApply(CorrelationData.Confirm::isAck);
+    }
+
+    @Override
+    public void publishProfileChanged(ProfileChangedEvent event) {
+        rabbitTemplate.convertAndSend(RabbitMQConfig.PROFILE_EVENTS_EXCHANGE, "", event);
+    }
+
+    @Override
+    public void publishTokenRevoked(TokenRevokedEvent event) {
+        rabbitTemplate.convertAndSend(RabbitMQConfig.TOKEN_REVOCATIONS_EXCHANGE, "", event);
     }
 }
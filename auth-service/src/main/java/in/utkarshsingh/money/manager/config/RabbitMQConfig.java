@@ -1,5 +1,6 @@
 package in.utkarshsingh.money.manager.config;
 
+import org.springframework.amqp.core.FanoutExchange;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
@@ -11,6 +12,18 @@ import org.springframework.context.annotation.Configuration;
 public class RabbitMQConfig {
 
     public static final String PROFILE_ACTIVATION_QUEUE = "profile-activation-queue";
+    public static final String PROFILE_EVENTS_EXCHANGE = "profile-events-exchange";
+    public static final String TOKEN_REVOCATIONS_EXCHANGE = "token-revocations-exchange";
+
+    @Bean
+    public FanoutExchange profileEventsExchange() {
+        return new FanoutExchange(PROFILE_EVENTS_EXCHANGE);
+    }
+
+    @Bean
+    public FanoutExchange tokenRevocationsExchange() {
+        return new FanoutExchange(TOKEN_REVOCATIONS_EXCHANGE);
+    }
 
     @Bean
     public MessageConverter jsonMessageConverter() {
@@ -1,5 +1,6 @@
 package in.utkarshsingh.money.manager.config;
 
+import in.utkarshsingh.money.manager.security.InternalTokenFilter;
 import in.utkarshsingh.money.manager.security.JwtRequestFilter;
 import in.utkarshsingh.money.manager.service.AppUserDetailsService;
 import lombok.RequiredArgsConstructor;
@@ -21,11 +22,15 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private static final String[] PUBLIC_ENDPOINTS = {
-            "/v1/register", "/v1/activate", "/v1/login", "/health", "/status"
+            "/v1/register", "/v1/activate", "/v1/login", "/v1/token/refresh", "/health", "/status"
     };
 
+    /** Service-to-service endpoints; authenticated by {@link InternalTokenFilter}, not by JWT. */
+    private static final String INTERNAL_ENDPOINTS = "/internal/**";
+
     private final AppUserDetailsService appUserDetailsService;
     private final JwtRequestFilter jwtRequestFilter;
+    private final InternalTokenFilter internalTokenFilter;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity) throws Exception {
@@ -34,8 +39,10 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(PUBLIC_ENDPOINTS).permitAll()
+                        .requestMatchers(INTERNAL_ENDPOINTS).permitAll()
                         .anyRequest().authenticated())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .addFilterBefore(internalTokenFilter, UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(jwtRequestFilter, UsernamePasswordAuthenticationFilter.class);
         return httpSecurity.build();
     }
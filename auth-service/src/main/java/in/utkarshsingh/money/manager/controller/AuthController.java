@@ -3,10 +3,13 @@ package in.utkarshsingh.money.manager.controller;
 import in.utkarshsingh.money.manager.dto.JwtResponseDTO;
 import in.utkarshsingh.money.manager.dto.ProfileDTO;
 import in.utkarshsingh.money.manager.dto.request.LoginRequest;
+import in.utkarshsingh.money.manager.dto.request.RefreshTokenRequest;
 import in.utkarshsingh.money.manager.dto.request.RegisterRequest;
 import in.utkarshsingh.money.manager.service.ProfileService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -16,6 +19,9 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class AuthController {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String CLIENT_IP_HEADER = "X-Client-Ip";
+
     private final ProfileService profileService;
 
     @PostMapping("/register")
@@ -30,7 +36,33 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<JwtResponseDTO> login(@Valid @RequestBody LoginRequest request) {
-        return ResponseEntity.ok(profileService.login(request));
+    public ResponseEntity<JwtResponseDTO> login(@Valid @RequestBody LoginRequest request,
+                                                HttpServletRequest httpRequest) {
+        return ResponseEntity.ok(profileService.login(request, clientIp(httpRequest)));
+    }
+
+    @PostMapping("/token/refresh")
+    public ResponseEntity<JwtResponseDTO> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        return ResponseEntity.ok(profileService.refresh(request));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+                                       @RequestBody(required = false) RefreshTokenRequest request) {
+        profileService.logout(authorization.substring(BEARER_PREFIX.length()), request);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Requests arrive through the gateway, which resolves the client address and sets
+     * X-Client-Ip itself, replacing any value the client sent. X-Forwarded-For is not read here:
+     * the gateway does not vouch for it.
+     */
+    private static String clientIp(HttpServletRequest request) {
+        String clientIp = request.getHeader(CLIENT_IP_HEADER);
+        if (clientIp != null && !clientIp.isBlank()) {
+            return clientIp.trim();
+        }
+        return request.getRemoteAddr();
     }
 }
@@ -0,0 +1,30 @@
+package in.utkarshsingh.money.manager.controller;
+
+import in.utkarshsingh.money.manager.dto.request.OutboxReplayRequest;
+import in.utkarshsingh.money.manager.service.OutboxMaintenanceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * Operator endpoints for the outbox. Not routed by the gateway; the internal token is checked
+ * by {@code InternalTokenFilter}.
+ */
+@RestController
+@RequestMapping("/internal/outbox")
+@RequiredArgsConstructor
+public class InternalOutboxController {
+
+    private final OutboxMaintenanceService outboxMaintenanceService;
+
+    @PostMapping("/replay")
+    public ResponseEntity<Map<String, Integer>> replayFailed(@RequestBody(required = false) OutboxReplayRequest request) {
+        int replayed = outboxMaintenanceService.replayFailed(request == null ? null : request.getEventIds());
+        return ResponseEntity.ok(Map.of("replayed", replayed));
+    }
+}
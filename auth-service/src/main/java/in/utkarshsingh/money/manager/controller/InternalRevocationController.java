@@ -0,0 +1,28 @@
+package in.utkarshsingh.money.manager.controller;
+
+import in.utkarshsingh.money.manager.event.TokenRevokedEvent;
+import in.utkarshsingh.money.manager.service.TokenRevocationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Lets the gateway load the current revocation list on startup. Not routed by the gateway;
+ * callers must present the internal token, checked by {@code InternalTokenFilter}.
+ */
+@RestController
+@RequestMapping("/internal/revocations")
+@RequiredArgsConstructor
+public class InternalRevocationController {
+
+    private final TokenRevocationService tokenRevocationService;
+
+    @GetMapping
+    public ResponseEntity<List<TokenRevokedEvent>> activeRevocations() {
+        return ResponseEntity.ok(tokenRevocationService.activeRevocations());
+    }
+}
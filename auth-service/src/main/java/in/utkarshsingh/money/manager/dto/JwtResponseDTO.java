@@ -9,5 +9,7 @@ public class JwtResponseDTO {
     private String accessToken;
     private String tokenType;
     private long expiresIn;
+    private String refreshToken;
+    private long refreshExpiresIn;
     private UserPublicDTO user;
 }
@@ -0,0 +1,17 @@
+package in.utkarshsingh.money.manager.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class OutboxReplayRequest {
+    /** Events to replay; empty replays every FAILED event. */
+    private List<String> eventIds;
+}
@@ -7,7 +7,9 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "outbox_events")
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_status_created", columnList = "status, createdAt")
+})
 @Getter
 @Setter
 @Builder
@@ -28,9 +30,17 @@ public class OutboxEvent {
     @Column(nullable = false)
     private String eventType;
 
-    @Column(nullable = false, columnDefinition = "TEXT")
+    /** Legacy JSON payload; rows written before binary encoding have only this. */
+    @Column(columnDefinition = "TEXT")
     private String payload;
 
+    @Column(columnDefinition = "VARBINARY(4096)")
+    private byte[] body;
+
+    private String contentType;
+
+    private Integer schemaVersion;
+
     @Enumerated(EnumType.STRING)
     private EventStatus status;
 
@@ -38,4 +48,9 @@ public class OutboxEvent {
 
     private LocalDateTime createdAt;
     private LocalDateTime processedAt;
+
+    @Column(length = 64)
+    private String leaseOwner;
+
+    private LocalDateTime leaseUntil;
 }
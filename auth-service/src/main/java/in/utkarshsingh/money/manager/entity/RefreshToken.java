@@ -0,0 +1,48 @@
+package in.utkarshsingh.money.manager.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One issued refresh token. Only the SHA-256 of the token is stored. Every token rotated from
+ * the same login shares a {@code familyId}, so a reused token can revoke the whole chain.
+ */
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_token_hash", columnList = "tokenHash", unique = true),
+        @Index(name = "idx_refresh_token_family", columnList = "familyId"),
+        @Index(name = "idx_refresh_token_profile", columnList = "profileId"),
+        @Index(name = "idx_refresh_token_expires", columnList = "expiresAt")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String tokenHash;
+
+    @Column(nullable = false, length = 36)
+    private String familyId;
+
+    @Column(nullable = false)
+    private Long profileId;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    private LocalDateTime createdAt;
+
+    /** Set once the token has been exchanged for a new one. */
+    private LocalDateTime rotatedAt;
+
+    private LocalDateTime revokedAt;
+}
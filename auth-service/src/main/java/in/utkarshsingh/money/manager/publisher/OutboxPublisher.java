@@ -1,22 +1,48 @@
 package in.utkarshsingh.money.manager.publisher;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import in.utkarshsingh.money.manager.entity.OutboxEvent;
 import in.utkarshsingh.money.manager.enums.EventStatus;
-import in.utkarshsingh.money.manager.event.ProfileActivationEvent;
+import in.utkarshsingh.money.manager.event.EncodedEvent;
 import in.utkarshsingh.money.manager.port.EventPublisher;
 import in.utkarshsingh.money.manager.repository.OutboxRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * Relays outbox rows to the broker. Each pass leases a batch in a short transaction
+ * ({@code FOR UPDATE SKIP LOCKED}), forwards the stored bytes without decoding them, waits for the
+ * publisher confirms and records the outcome with one bulk update per status. Registrations
+ * wake the relay after commit; the scheduled poll only picks up leftovers and expired leases.
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class OutboxPublisher {
 
@@ -24,27 +50,171 @@ public class OutboxPublisher {
 
     private final OutboxRepository outboxRepository;
     private final EventPublisher eventPublisher;
-    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor relayExecutor;
+    private final int batchSize;
+    private final Duration lease;
+    private final Duration confirmTimeout;
+    private final String instanceId = UUID.randomUUID().toString();
 
-    @Scheduled(fixedDelay = 30000)
-    @Transactional
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean wakeRequested = new AtomicBoolean();
+
+    private final Counter published;
+    private final Counter failed;
+    private final Timer latency;
+    private final Timer batchDuration;
+
+    public OutboxPublisher(OutboxRepository outboxRepository,
+                           EventPublisher eventPublisher,
+                           TransactionTemplate transactionTemplate,
+                           @Qualifier("outboxRelayExecutor") Executor relayExecutor,
+                           @Value("${outbox.relay.batch-size:100}") int batchSize,
+                           @Value("${outbox.relay.lease:30s}") Duration lease,
+                           @Value("${outbox.relay.confirm-timeout:10s}") Duration confirmTimeout,
+                           MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.relayExecutor = relayExecutor;
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.confirmTimeout = confirmTimeout;
+        this.published = Counter.builder("outbox.relay.published")
+                .description("Outbox events confirmed by the broker")
+                .register(meterRegistry);
+        this.failed = Counter.builder("outbox.relay.failed")
+                .description("Outbox publish attempts that were rejected or unconfirmed")
+                .register(meterRegistry);
+        this.latency = Timer.builder("outbox.relay.latency")
+                .description("Time from outbox insert to broker confirm")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.batchDuration = Timer.builder("outbox.relay.batch")
+                .description("Time to publish and confirm one outbox batch")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOutboxEventStored(OutboxEvent event) {
+        wake();
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval:30s}")
     public void publishPendingEvents() {
-        List<OutboxEvent> events = outboxRepository.findTop50ByStatusOrderByCreatedAtAsc(EventStatus.PENDING);
-        for (OutboxEvent event : events) {
+        wake();
+    }
+
+    /**
+     * Requests a drain. Wake-ups arriving while a drain is running are folded into one more pass.
+     */
+    public void wake() {
+        wakeRequested.set(true);
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            relayExecutor.execute(this::drain);
+        } catch (TaskRejectedException ex) {
+            draining.set(false);
+            log.warn("Outbox relay busy, deferring to next poll | error={}", ex.getMessage());
+        }
+    }
+
+    private void drain() {
+        try {
+            while (wakeRequested.getAndSet(false)) {
+                while (relayBatch() == batchSize) {
+                    // keep draining full batches
+                }
+            }
+        } catch (Exception ex) {
+            log.error("Outbox relay pass failed", ex);
+        } finally {
+            draining.set(false);
+        }
+        if (wakeRequested.get()) {
+            wake();
+        }
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> batch = claimBatch();
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        Map<OutboxEvent, CompletableFuture<Boolean>> confirms = new LinkedHashMap<>();
+        List<Long> failedIds = new ArrayList<>();
+        for (OutboxEvent event : batch) {
             try {
-                ProfileActivationEvent payload = objectMapper.readValue(event.getPayload(), ProfileActivationEvent.class);
-                eventPublisher.publishProfileActivation(payload, event.getEventId());
-                event.setStatus(EventStatus.SENT);
-                event.setProcessedAt(LocalDateTime.now());
-                outboxRepository.save(event);
+                confirms.put(event, eventPublisher.publishProfileActivation(toEncodedEvent(event)));
             } catch (Exception ex) {
-                event.setRetryCount(event.getRetryCount() + 1);
-                if (event.getRetryCount() > MAX_RETRIES) {
-                    event.setStatus(EventStatus.FAILED);
-                }
-                outboxRepository.save(event);
+                failedIds.add(event.getId());
                 log.error("Failed publishing event: {}", event.getEventId(), ex);
             }
         }
+
+        List<Long> sentIds = new ArrayList<>();
+        long deadline = start + confirmTimeout.toNanos();
+        for (Map.Entry<OutboxEvent, CompletableFuture<Boolean>> entry : confirms.entrySet()) {
+            OutboxEvent event = entry.getKey();
+            if (awaitConfirm(entry.getValue(), deadline)) {
+                sentIds.add(event.getId());
+                latency.record(Duration.between(event.getCreatedAt(), LocalDateTime.now()));
+            } else {
+                failedIds.add(event.getId());
+                log.warn("Broker did not confirm event: {}", event.getEventId());
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!sentIds.isEmpty()) {
+                outboxRepository.markSent(sentIds, EventStatus.SENT, LocalDateTime.now());
+            }
+            if (!failedIds.isEmpty()) {
+                outboxRepository.markAttemptFailed(failedIds, EventStatus.FAILED, MAX_RETRIES);
+            }
+        });
+        published.increment(sentIds.size());
+        failed.increment(failedIds.size());
+        batchDuration.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        log.debug("Relayed outbox batch | sent={} | failed={}", sentIds.size(), failedIds.size());
+        return batch.size();
+    }
+
+    private List<OutboxEvent> claimBatch() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEvent> batch = outboxRepository.findClaimable(EventStatus.PENDING, now, PageRequest.of(0, batchSize));
+            if (!batch.isEmpty()) {
+                outboxRepository.lease(batch.stream().map(OutboxEvent::getId).toList(), instanceId, now.plus(lease));
+            }
+            return batch;
+        });
+    }
+
+    /**
+     * Rows written before binary encoding carry only the JSON text; it is forwarded as JSON bytes.
+     */
+    private static EncodedEvent toEncodedEvent(OutboxEvent event) {
+        boolean binary = event.getBody() != null;
+        return new EncodedEvent(
+                event.getEventId(),
+                binary ? event.getContentType() : MediaType.APPLICATION_JSON_VALUE,
+                event.getSchemaVersion() != null ? event.getSchemaVersion() : 1,
+                binary ? event.getBody() : event.getPayload().getBytes(StandardCharsets.UTF_8),
+                event.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    private static boolean awaitConfirm(CompletableFuture<Boolean> confirm, long deadline) {
+        try {
+            return confirm.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException ex) {
+            return false;
+        }
     }
 }
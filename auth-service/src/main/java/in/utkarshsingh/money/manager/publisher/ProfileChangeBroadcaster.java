@@ -0,0 +1,31 @@
+package in.utkarshsingh.money.manager.publisher;
+
+import in.utkarshsingh.money.manager.event.ProfileChangedEvent;
+import in.utkarshsingh.money.manager.port.EventPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Broadcasts profile changes once the owning transaction commits so downstream profile caches
+ * never evict ahead of the write. Delivery is best-effort; consumers also expire entries by TTL.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProfileChangeBroadcaster {
+
+    private final EventPublisher eventPublisher;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProfileChanged(ProfileChangedEvent event) {
+        try {
+            eventPublisher.publishProfileChanged(event);
+        } catch (Exception ex) {
+            log.warn("Failed broadcasting profile change | profileId={} | type={} | error={}",
+                    event.getProfileId(), event.getChangeType(), ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package in.utkarshsingh.money.manager.publisher;
+
+import in.utkarshsingh.money.manager.event.TokenRevokedEvent;
+import in.utkarshsingh.money.manager.port.EventPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Broadcasts revocations after commit. A lost broadcast is recovered when the gateway next
+ * reloads the revocation list from auth-service.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationBroadcaster {
+
+    private final EventPublisher eventPublisher;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTokenRevoked(TokenRevokedEvent event) {
+        try {
+            eventPublisher.publishTokenRevoked(event);
+        } catch (Exception ex) {
+            log.warn("Failed broadcasting token revocation | jti={} | error={}", event.getJti(), ex.getMessage());
+        }
+    }
+}
@@ -2,10 +2,77 @@ package in.utkarshsingh.money.manager.repository;
 
 import in.utkarshsingh.money.manager.entity.OutboxEvent;
 import in.utkarshsingh.money.manager.enums.EventStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface OutboxRepository extends JpaRepository<OutboxEvent, Long> {
-    List<OutboxEvent> findTop50ByStatusOrderByCreatedAtAsc(EventStatus status);
+
+    /**
+     * Locks the oldest unleased events with {@code FOR UPDATE SKIP LOCKED}, so concurrent relays
+     * each take a disjoint batch instead of queueing behind one another.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboxEvent e WHERE e.status = :status " +
+            "AND (e.leaseUntil IS NULL OR e.leaseUntil < :now) ORDER BY e.createdAt, e.id")
+    List<OutboxEvent> findClaimable(@Param("status") EventStatus status,
+                                    @Param("now") LocalDateTime now,
+                                    Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.leaseOwner = :owner, e.leaseUntil = :until WHERE e.id IN :ids")
+    int lease(@Param("ids") Collection<Long> ids,
+              @Param("owner") String owner,
+              @Param("until") LocalDateTime until);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = :sent, e.processedAt = :now, " +
+            "e.leaseOwner = NULL, e.leaseUntil = NULL WHERE e.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids,
+                 @Param("sent") EventStatus sent,
+                 @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = :pending, e.retryCount = 0, " +
+            "e.leaseOwner = NULL, e.leaseUntil = NULL WHERE e.id IN :ids")
+    int requeue(@Param("ids") Collection<Long> ids, @Param("pending") EventStatus pending);
+
+    @Query("SELECT e.id FROM OutboxEvent e WHERE e.status = :status AND e.createdAt < :cutoff ORDER BY e.createdAt")
+    List<Long> findIdsCreatedBefore(@Param("status") EventStatus status,
+                                    @Param("cutoff") LocalDateTime cutoff,
+                                    Pageable pageable);
+
+    @Query("SELECT e.id FROM OutboxEvent e WHERE e.status = :status ORDER BY e.createdAt")
+    List<Long> findIdsByStatus(@Param("status") EventStatus status, Pageable pageable);
+
+    @Query("SELECT e.id FROM OutboxEvent e WHERE e.status = :status AND e.eventId IN :eventIds")
+    List<Long> findIdsByStatusAndEventIds(@Param("status") EventStatus status,
+                                          @Param("eventIds") Collection<String> eventIds);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Counts a failed attempt. The lease is left to run out so the event backs off for one
+     * lease period before it can be claimed again.
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET " +
+            "e.status = CASE WHEN e.retryCount >= :maxRetries THEN :failed ELSE e.status END, " +
+            "e.retryCount = e.retryCount + 1, e.leaseOwner = NULL WHERE e.id IN :ids")
+    int markAttemptFailed(@Param("ids") Collection<Long> ids,
+                          @Param("failed") EventStatus failed,
+                          @Param("maxRetries") int maxRetries);
 }
@@ -0,0 +1,24 @@
+package in.utkarshsingh.money.manager.repository;
+
+import in.utkarshsingh.money.manager.entity.RevokedToken;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    List<RevokedToken> findByExpiresAtAfter(LocalDateTime now);
+
+    @Query("SELECT t.jti FROM RevokedToken t WHERE t.expiresAt < :cutoff ORDER BY t.expiresAt")
+    List<String> findJtisExpiredBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM RevokedToken t WHERE t.jti IN :jtis")
+    int deleteByJtis(@Param("jtis") Collection<String> jtis);
+}
@@ -0,0 +1,54 @@
+package in.utkarshsingh.money.manager.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Guards every {@code /internal/**} endpoint with the shared {@code X-Internal-Token}, compared
+ * in constant time. Requests are rejected outright while no token is configured, so a new
+ * internal controller is never public by accident.
+ */
+@Component
+@Slf4j
+public class InternalTokenFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Internal-Token";
+    private static final String INTERNAL_PREFIX = "/internal/";
+
+    private final byte[] internalToken;
+
+    public InternalTokenFilter(@Value("${internal.token:}") String internalToken) {
+        this.internalToken = internalToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !path.startsWith(INTERNAL_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String token = request.getHeader(HEADER);
+        if (internalToken.length == 0
+                || token == null
+                || !MessageDigest.isEqual(internalToken, token.getBytes(StandardCharsets.UTF_8))) {
+            log.warn("Rejected internal request without a valid token | uri={}", request.getRequestURI());
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid internal token");
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
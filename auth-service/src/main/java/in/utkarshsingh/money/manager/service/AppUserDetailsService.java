@@ -24,6 +24,7 @@ public class AppUserDetailsService implements UserDetailsService {
                 .username(profile.getEmail())
                 .password(profile.getPassword())
                 .authorities(Collections.emptyList())
+                .disabled(!Boolean.TRUE.equals(profile.getIsActive()))
                 .build();
     }
 }
@@ -0,0 +1,86 @@
+package in.utkarshsingh.money.manager.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import in.utkarshsingh.money.manager.exceptions.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Sliding-window limit on login attempts per email and per client IP, checked before any
+ * password hashing so brute-force traffic costs no BCrypt time. Each key keeps two counters
+ * (current and previous fixed window) and weighs the previous one by how much of it still
+ * overlaps the sliding window. Idle keys expire from a bounded cache.
+ */
+@Component
+public class LoginAttemptLimiter {
+
+    private final Cache<String, SlidingWindow> windows;
+    private final long windowMillis;
+    private final int maxPerEmail;
+    private final int maxPerIp;
+    private final Counter emailThrottled;
+    private final Counter ipThrottled;
+
+    public LoginAttemptLimiter(@Value("${auth.login-limit.window:5m}") Duration window,
+                               @Value("${auth.login-limit.per-email:10}") int maxPerEmail,
+                               @Value("${auth.login-limit.per-ip:100}") int maxPerIp,
+                               @Value("${auth.login-limit.max-keys:100000}") long maxKeys,
+                               MeterRegistry meterRegistry) {
+        this.windowMillis = window.toMillis();
+        this.maxPerEmail = maxPerEmail;
+        this.maxPerIp = maxPerIp;
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(window.multipliedBy(2))
+                .build();
+        this.emailThrottled = meterRegistry.counter("auth.login.throttled", "key", "email");
+        this.ipThrottled = meterRegistry.counter("auth.login.throttled", "key", "ip");
+    }
+
+    public void acquire(String email, String clientIp) {
+        if (clientIp != null) {
+            check("ip:" + clientIp, maxPerIp, ipThrottled);
+        }
+        check("email:" + email, maxPerEmail, emailThrottled);
+    }
+
+    private void check(String key, int limit, Counter throttled) {
+        long retryAfterMillis = windows.get(key, k -> new SlidingWindow())
+                .tryAcquire(System.currentTimeMillis(), windowMillis, limit);
+        if (retryAfterMillis > 0) {
+            throttled.increment();
+            throw new TooManyRequestsException("Too many login attempts. Please try again later.",
+                    Math.max(retryAfterMillis / 1000, 1));
+        }
+    }
+
+    private static final class SlidingWindow {
+
+        private long currentStart;
+        private int currentCount;
+        private int previousCount;
+
+        /**
+         * Records an attempt and returns 0, or returns how long to wait when the limit is reached.
+         */
+        synchronized long tryAcquire(long now, long windowMillis, int limit) {
+            long start = now - Math.floorMod(now, windowMillis);
+            if (start != currentStart) {
+                previousCount = start - currentStart == windowMillis ? currentCount : 0;
+                currentStart = start;
+                currentCount = 0;
+            }
+            double previousWeight = 1.0 - (double) (now - start) / windowMillis;
+            if (previousCount * previousWeight + currentCount >= limit) {
+                return start + windowMillis - now;
+            }
+            currentCount++;
+            return 0;
+        }
+    }
+}
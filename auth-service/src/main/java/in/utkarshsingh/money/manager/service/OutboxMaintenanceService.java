@@ -0,0 +1,100 @@
+package in.utkarshsingh.money.manager.service;
+
+import in.utkarshsingh.money.manager.enums.EventStatus;
+import in.utkarshsingh.money.manager.publisher.OutboxPublisher;
+import in.utkarshsingh.money.manager.repository.OutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Keeps {@code outbox_events} small: finished events are deleted after their retention period
+ * and FAILED events can be put back in the relay's queue. Every pass works in bounded batches,
+ * each in its own short transaction, so row locks are never held for long.
+ */
+@Service
+@Slf4j
+public class OutboxMaintenanceService {
+
+    private final OutboxRepository outboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxPublisher outboxPublisher;
+    private final int batchSize;
+    private final Duration sentRetention;
+    private final Duration failedRetention;
+
+    public OutboxMaintenanceService(OutboxRepository outboxRepository,
+                                    TransactionTemplate transactionTemplate,
+                                    OutboxPublisher outboxPublisher,
+                                    @Value("${outbox.retention.batch-size:500}") int batchSize,
+                                    @Value("${outbox.retention.sent:7d}") Duration sentRetention,
+                                    @Value("${outbox.retention.failed:30d}") Duration failedRetention) {
+        this.outboxRepository = outboxRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.outboxPublisher = outboxPublisher;
+        this.batchSize = batchSize;
+        this.sentRetention = sentRetention;
+        this.failedRetention = failedRetention;
+    }
+
+    @Scheduled(cron = "${outbox.retention.cron:0 15 * * * *}")
+    public void purgeExpired() {
+        int sent = purge(EventStatus.SENT, sentRetention);
+        int failed = purge(EventStatus.FAILED, failedRetention);
+        if (sent + failed > 0) {
+            log.info("Purged outbox events | sent={} | failed={}", sent, failed);
+        }
+    }
+
+    /**
+     * Moves FAILED events back to PENDING with a fresh retry budget and wakes the relay.
+     */
+    public int replayFailed(List<String> eventIds) {
+        int replayed = 0;
+        if (eventIds != null && !eventIds.isEmpty()) {
+            for (int from = 0; from < eventIds.size(); from += batchSize) {
+                List<String> chunk = eventIds.subList(from, Math.min(from + batchSize, eventIds.size()));
+                replayed += requeue(outboxRepository.findIdsByStatusAndEventIds(EventStatus.FAILED, chunk));
+            }
+        } else {
+            int requeued;
+            do {
+                requeued = requeue(outboxRepository.findIdsByStatus(EventStatus.FAILED, PageRequest.of(0, batchSize)));
+                replayed += requeued;
+            } while (requeued == batchSize);
+        }
+        log.info("Replaying failed outbox events | count={}", replayed);
+        if (replayed > 0) {
+            outboxPublisher.wake();
+        }
+        return replayed;
+    }
+
+    private int purge(EventStatus status, Duration retention) {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        int total = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(tx -> {
+                List<Long> ids = outboxRepository.findIdsCreatedBefore(status, cutoff, PageRequest.of(0, batchSize));
+                return ids.isEmpty() ? 0 : outboxRepository.deleteByIds(ids);
+            });
+            total += deleted;
+        } while (deleted == batchSize);
+        return total;
+    }
+
+    private int requeue(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return transactionTemplate.execute(tx -> outboxRepository.requeue(ids, EventStatus.PENDING));
+    }
+}
@@ -0,0 +1,107 @@
+package in.utkarshsingh.money.manager.service;
+
+import in.utkarshsingh.money.manager.exceptions.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs BCrypt hashing and verification on the bounded {@code passwordHashExecutor} instead of
+ * the calling request thread. When the pool and its queue are full, or a task waits longer than
+ * the configured timeout, the caller is shed with a 429 and a Retry-After hint rather than
+ * queueing without limit.
+ */
+@Service
+public class PasswordHashingService {
+
+    private static final String BUSY_MESSAGE = "Too many sign-in requests in progress. Please retry shortly.";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor executor;
+    private final Duration timeout;
+    private final long retryAfterSeconds;
+    private final Timer verifyTimer;
+    private final Timer encodeTimer;
+    private final Timer queueWait;
+    private final Counter rejected;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  @Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor executor,
+                                  @Value("${auth.password-hash.timeout:5s}") Duration timeout,
+                                  @Value("${auth.password-hash.retry-after:2s}") Duration retryAfter,
+                                  MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.timeout = timeout;
+        this.retryAfterSeconds = Math.max(retryAfter.toSeconds(), 1);
+        this.verifyTimer = Timer.builder("auth.password.hash")
+                .tag("op", "verify")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("auth.password.hash")
+                .tag("op", "encode")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.queueWait = Timer.builder("auth.password.hash.queue.wait")
+                .description("Time a hashing task waits for a worker")
+                .register(meterRegistry);
+        this.rejected = meterRegistry.counter("auth.password.hash.rejected");
+        Gauge.builder("auth.password.hash.queue.depth", executor,
+                        e -> e.getThreadPoolExecutor().getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hash.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(verifyTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public String encode(String rawPassword) {
+        return run(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    private <T> T run(Timer timer, Callable<T> task) {
+        long enqueued = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWait.record(System.nanoTime() - enqueued, TimeUnit.NANOSECONDS);
+                return timer.recordCallable(task);
+            });
+        } catch (TaskRejectedException ex) {
+            rejected.increment();
+            throw new TooManyRequestsException(BUSY_MESSAGE, retryAfterSeconds);
+        }
+        try {
+            return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            rejected.increment();
+            throw new TooManyRequestsException(BUSY_MESSAGE, retryAfterSeconds);
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        }
+    }
+}
@@ -1,32 +1,34 @@
 package in.utkarshsingh.money.manager.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import in.utkarshsingh.money.manager.dto.JwtResponseDTO;
 import in.utkarshsingh.money.manager.dto.ProfileDTO;
 import in.utkarshsingh.money.manager.dto.request.ChangePasswordRequest;
 import in.utkarshsingh.money.manager.dto.request.LoginRequest;
+import in.utkarshsingh.money.manager.dto.request.RefreshTokenRequest;
 import in.utkarshsingh.money.manager.dto.request.RegisterRequest;
 import in.utkarshsingh.money.manager.dto.request.UpdateProfileRequest;
 import in.utkarshsingh.money.manager.entity.OutboxEvent;
 import in.utkarshsingh.money.manager.entity.ProfileEntity;
 import in.utkarshsingh.money.manager.enums.EventStatus;
+import in.utkarshsingh.money.manager.enums.ProfileChangeType;
 import in.utkarshsingh.money.manager.event.ProfileActivationEvent;
+import in.utkarshsingh.money.manager.event.ProfileChangedEvent;
 import in.utkarshsingh.money.manager.exceptions.*;
 import in.utkarshsingh.money.manager.mapper.ProfileMapper;
 import in.utkarshsingh.money.manager.repository.OutboxRepository;
 import in.utkarshsingh.money.manager.repository.ProfileRepository;
+import in.utkarshsingh.money.manager.util.BinaryEventCodec;
 import in.utkarshsingh.money.manager.util.JwtUtil;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.authentication.*;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -38,25 +40,35 @@ public class ProfileService {
 
     private final ProfileRepository profileRepository;
     private final OutboxRepository outboxRepository;
-    private final PasswordEncoder passwordEncoder;
-    private final AuthenticationManager authenticationManager;
+    private final PasswordHashingService passwordHashingService;
+    private final LoginAttemptLimiter loginAttemptLimiter;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
     private final JwtUtil jwtUtil;
-    private final ObjectMapper objectMapper;
     private final ProfileMapper profileMapper;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    /**
+     * The password is hashed before the transaction opens, so no connection is held while it
+     * waits on the hashing pool. The unique email column still rejects a concurrent duplicate.
+     */
     public ProfileDTO registerProfile(RegisterRequest request) {
         log.info("Attempting to register profile with email: {}", request.getEmail());
         if (profileRepository.existsByEmail(request.getEmail().trim().toLowerCase())) {
             throw new EmailAlreadyExistsException(request.getEmail());
         }
-        ProfileEntity profile = profileMapper.toEntity(request);
-        profile.setPassword(passwordEncoder.encode(request.getPassword()));
-        profile.setActivationToken(UUID.randomUUID().toString());
-        profile.setActivationExpiry(LocalDateTime.now().plusHours(24));
-        profile.setIsActive(false);
-        profile = profileRepository.save(profile);
-        createOutboxEvent(profile);
+        String passwordHash = passwordHashingService.encode(request.getPassword());
+        ProfileEntity profile = transactionTemplate.execute(status -> {
+            ProfileEntity created = profileMapper.toEntity(request);
+            created.setPassword(passwordHash);
+            created.setActivationToken(UUID.randomUUID().toString());
+            created.setActivationExpiry(LocalDateTime.now().plusHours(24));
+            created.setIsActive(false);
+            created = profileRepository.save(created);
+            createOutboxEvent(created);
+            return created;
+        });
         log.info("Profile registered successfully with id: {}", profile.getId());
         return profileMapper.toDTO(profile);
     }
@@ -72,21 +84,55 @@ public class ProfileService {
         profile.setActivationToken(null);
         profile.setActivationExpiry(null);
         profileRepository.save(profile);
+        publishProfileChanged(profile, ProfileChangeType.UPDATED);
         return true;
     }
 
-    @Transactional(readOnly = true)
-    public JwtResponseDTO login(LoginRequest request) {
+    /**
+     * Not transactional on purpose: the profile is read once up front, so no connection is held
+     * while the password is verified on the hashing pool.
+     */
+    public JwtResponseDTO login(LoginRequest request, String clientIp) {
         String email = request.getEmail().trim().toLowerCase();
         log.info("Login attempt for email: {}", email);
+        loginAttemptLimiter.acquire(email, clientIp);
         ProfileEntity profile = profileRepository.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException(email));
         if (!Boolean.TRUE.equals(profile.getIsActive())) {
             throw new AccountNotActiveException(email);
         }
-        authenticateUser(email, request.getPassword());
+        if (!passwordHashingService.matches(request.getPassword(), profile.getPassword())) {
+            throw new InvalidCredentialsException();
+        }
         log.info("Login successful for email: {}", email);
-        return generateJwtResponse(profile);
+        return generateJwtResponse(profile, refreshTokenService.issue(profile.getId()));
+    }
+
+    /**
+     * Trades a refresh token for a new access/refresh pair without touching the password hash.
+     */
+    public JwtResponseDTO refresh(RefreshTokenRequest request) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.getRefreshToken());
+        ProfileEntity profile = profileRepository.findById(rotation.profileId())
+                .orElseThrow(() -> new InvalidTokenException("Invalid refresh token"));
+        if (!Boolean.TRUE.equals(profile.getIsActive())) {
+            throw new AccountNotActiveException(profile.getEmail());
+        }
+        return generateJwtResponse(profile, rotation.refreshToken());
+    }
+
+    /**
+     * Revokes the presented access token and, when given, the session's refresh token family.
+     */
+    @Transactional
+    public void logout(String accessToken, RefreshTokenRequest request) {
+        Claims claims = jwtUtil.parseClaims(accessToken);
+        Long profileId = claims.get(JwtUtil.PROFILE_ID_CLAIM, Long.class);
+        tokenRevocationService.revoke(claims, profileId);
+        if (request != null && request.getRefreshToken() != null && profileId != null) {
+            refreshTokenService.revoke(request.getRefreshToken(), profileId);
+        }
+        log.info("Logout | profileId={}", profileId);
     }
 
     public ProfileEntity getCurrentProfile() {
@@ -115,50 +161,61 @@ public class ProfileService {
             profile.setProfileImageUrl(request.getProfileImageUrl());
         }
         profile = profileRepository.save(profile);
+        publishProfileChanged(profile, ProfileChangeType.UPDATED);
         return profileMapper.toDTO(profile);
     }
 
-    @Transactional
+    /**
+     * Verifies and hashes outside the transaction, then writes only if the stored hash is still
+     * the one just verified, so a concurrent change is not silently overwritten.
+     */
     public void changePassword(ChangePasswordRequest request) {
-        ProfileEntity profile = getCurrentProfile();
-        if (!passwordEncoder.matches(request.getCurrentPassword(), profile.getPassword())) {
+        ProfileEntity current = getCurrentProfile();
+        String verifiedHash = current.getPassword();
+        if (!passwordHashingService.matches(request.getCurrentPassword(), verifiedHash)) {
             throw new InvalidPasswordException();
         }
-        profile.setPassword(passwordEncoder.encode(request.getNewPassword()));
-        profileRepository.save(profile);
+        String newHash = passwordHashingService.encode(request.getNewPassword());
+        transactionTemplate.executeWithoutResult(status -> {
+            ProfileEntity profile = profileRepository.findById(current.getId())
+                    .filter(found -> verifiedHash.equals(found.getPassword()))
+                    .orElseThrow(InvalidPasswordException::new);
+            profile.setPassword(newHash);
+            profileRepository.save(profile);
+            refreshTokenService.revokeAll(profile.getId());
+        });
     }
 
     @Transactional
     public void deleteAccount() {
         ProfileEntity profile = getCurrentProfile();
+        refreshTokenService.deleteAll(profile.getId());
         profileRepository.delete(profile);
+        publishProfileChanged(profile, ProfileChangeType.DELETED);
         log.info("Account deleted for profileId: {}", profile.getId());
     }
 
-    private void authenticateUser(String email, String password) {
-        try {
-            authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(email, password));
-        } catch (BadCredentialsException ex) {
-            throw new InvalidCredentialsException();
-        } catch (DisabledException ex) {
-            throw new AccountNotActiveException(email);
-        } catch (LockedException ex) {
-            throw new AccountLockedException();
-        } catch (AuthenticationException ex) {
-            throw new InvalidCredentialsException();
-        }
-    }
-
-    private JwtResponseDTO generateJwtResponse(ProfileEntity profile) {
-        String accessToken = jwtUtil.generateToken(profile.getEmail());
+    private JwtResponseDTO generateJwtResponse(ProfileEntity profile, String refreshToken) {
+        String accessToken = jwtUtil.generateToken(profile.getEmail(), profile.getId());
         return JwtResponseDTO.builder()
                 .accessToken(accessToken)
                 .tokenType("Bearer")
                 .expiresIn(jwtUtil.getExpirationTime())
+                .refreshToken(refreshToken)
+                .refreshExpiresIn(refreshTokenService.getExpirationTime())
                 .user(profileMapper.toPublicDTO(profile))
                 .build();
     }
 
+    private void publishProfileChanged(ProfileEntity profile, ProfileChangeType changeType) {
+        applicationEventPublisher.publishEvent(ProfileChangedEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .profileId(profile.getId())
+                .email(profile.getEmail())
+                .changeType(changeType)
+                .build());
+    }
+
     private void createOutboxEvent(ProfileEntity profile) {
         ProfileActivationEvent event = ProfileActivationEvent.builder()
                 .eventId(UUID.randomUUID().toString())
@@ -166,25 +223,18 @@ public class ProfileService {
                 .fullName(profile.getFullName())
                 .activationToken(profile.getActivationToken())
                 .build();
-        String payloadJson = toJson(event);
         OutboxEvent outbox = OutboxEvent.builder()
                 .eventId(event.getEventId())
                 .aggregateType("PROFILE")
                 .eventType("PROFILE_ACTIVATION")
-                .payload(payloadJson)
+                .body(BinaryEventCodec.encode(event))
+                .contentType(BinaryEventCodec.CONTENT_TYPE)
+                .schemaVersion(BinaryEventCodec.SCHEMA_VERSION)
                 .status(EventStatus.PENDING)
                 .retryCount(0)
                 .createdAt(LocalDateTime.now())
                 .build();
         outboxRepository.save(outbox);
-    }
-
-    private String toJson(Object object) {
-        try {
-            return objectMapper.writeValueAsString(object);
-        } catch (JsonProcessingException e) {
-            log.error("Failed to serialize activation event", e);
-            throw new ProfileRegistrationException("Failed to process registration.");
-        }
+        applicationEventPublisher.publishEvent(outbox);
     }
 }
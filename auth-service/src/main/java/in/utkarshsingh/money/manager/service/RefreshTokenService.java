@@ -0,0 +1,173 @@
+package in.utkarshsingh.money.manager.service;
+
+import in.utkarshsingh.money.manager.entity.RefreshToken;
+import in.utkarshsingh.money.manager.exceptions.InvalidTokenException;
+import in.utkarshsingh.money.manager.exceptions.TokenExpiredException;
+import in.utkarshsingh.money.manager.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Issues and rotates opaque refresh tokens. Each refresh consumes the presented token and hands
+ * out a new one from the same family; presenting a token that was already consumed means it
+ * leaked, so the whole family is revoked and the user has to log in again.
+ */
+@Service
+@Slf4j
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final Duration ttl;
+    private final int sweepBatchSize;
+    private final Counter issued;
+    private final Counter rotated;
+    private final Counter reuseDetected;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${auth.refresh-token.ttl:14d}") Duration ttl,
+                               @Value("${auth.refresh-token.sweep-batch-size:500}") int sweepBatchSize,
+                               MeterRegistry meterRegistry) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.ttl = ttl;
+        this.sweepBatchSize = sweepBatchSize;
+        this.issued = meterRegistry.counter("auth.refresh.issued");
+        this.rotated = meterRegistry.counter("auth.refresh.rotated");
+        this.reuseDetected = meterRegistry.counter("auth.refresh.reuse-detected");
+    }
+
+    public long getExpirationTime() {
+        return ttl.toSeconds();
+    }
+
+    /**
+     * Starts a new token family for a fresh login and returns the raw token.
+     */
+    @Transactional
+    public String issue(Long profileId) {
+        issued.increment();
+        return store(profileId, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Exchanges a refresh token for a new one. Reuse revokes the family, and that revocation
+     * is committed even though the caller gets an error.
+     */
+    @Transactional(noRollbackFor = InvalidTokenException.class)
+    public Rotation rotate(String rawToken) {
+        RefreshToken current = refreshTokenRepository.findByTokenHashForUpdate(hash(rawToken))
+                .orElseThrow(() -> new InvalidTokenException("Invalid refresh token"));
+        LocalDateTime now = LocalDateTime.now();
+        if (current.getRevokedAt() != null) {
+            throw new InvalidTokenException("Refresh token has been revoked");
+        }
+        if (current.getRotatedAt() != null) {
+            refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            reuseDetected.increment();
+            log.warn("Refresh token reuse detected, revoking family | profileId={} | familyId={}",
+                    current.getProfileId(), current.getFamilyId());
+            throw new InvalidTokenException("Refresh token has been revoked");
+        }
+        if (current.getExpiresAt().isBefore(now)) {
+            throw new TokenExpiredException("Refresh token has expired");
+        }
+        current.setRotatedAt(now);
+        rotated.increment();
+        return new Rotation(current.getProfileId(), store(current.getProfileId(), current.getFamilyId()));
+    }
+
+    /**
+     * Ends the session the token belongs to by revoking its family. Tokens of other profiles
+     * and unknown tokens are ignored.
+     */
+    @Transactional
+    public void revoke(String rawToken, Long profileId) {
+        refreshTokenRepository.findByTokenHashForUpdate(hash(rawToken))
+                .filter(token -> token.getProfileId().equals(profileId))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId(), LocalDateTime.now()));
+    }
+
+    /**
+     * Logs the profile out everywhere, e.g. after a password change.
+     */
+    @Transactional
+    public void revokeAll(Long profileId) {
+        refreshTokenRepository.revokeAllForProfile(profileId, LocalDateTime.now());
+    }
+
+    @Transactional
+    public void deleteAll(Long profileId) {
+        refreshTokenRepository.deleteByProfileId(profileId);
+    }
+
+    @Scheduled(cron = "${auth.refresh-token.sweep-cron:0 45 * * * *}")
+    public void purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(tx -> {
+                List<Long> ids = refreshTokenRepository.findIdsExpiredBefore(cutoff, PageRequest.of(0, sweepBatchSize));
+                return ids.isEmpty() ? 0 : refreshTokenRepository.deleteByIds(ids);
+            });
+            total += deleted;
+        } while (deleted == sweepBatchSize);
+        if (total > 0) {
+            log.info("Purged expired refresh tokens | count={}", total);
+        }
+    }
+
+    private String store(Long profileId, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(rawToken))
+                .familyId(familyId)
+                .profileId(profileId)
+                .createdAt(now)
+                .expiresAt(now.plus(ttl))
+                .build());
+        return rawToken;
+    }
+
+    /**
+     * Tokens carry 256 random bits, so a fast unsalted digest is enough to keep the stored
+     * values useless to someone reading the table.
+     */
+    private static String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    public record Rotation(Long profileId, String refreshToken) {
+    }
+}
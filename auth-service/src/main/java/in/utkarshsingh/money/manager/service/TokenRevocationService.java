@@ -0,0 +1,102 @@
+package in.utkarshsingh.money.manager.service;
+
+import in.utkarshsingh.money.manager.entity.RevokedToken;
+import in.utkarshsingh.money.manager.event.TokenRevokedEvent;
+import in.utkarshsingh.money.manager.repository.RevokedTokenRepository;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Records revoked access-token ids and announces each one once the revocation commits. The
+ * gateway keeps the live set in memory and loads {@link #activeRevocations()} on startup, so a
+ * row is only kept until the token it names would have expired.
+ */
+@Service
+@Slf4j
+public class TokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final int sweepBatchSize;
+    private final Counter revoked;
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                  TransactionTemplate transactionTemplate,
+                                  ApplicationEventPublisher applicationEventPublisher,
+                                  @Value("${auth.revocation.sweep-batch-size:500}") int sweepBatchSize,
+                                  MeterRegistry meterRegistry) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.sweepBatchSize = sweepBatchSize;
+        this.revoked = meterRegistry.counter("auth.token.revoked");
+    }
+
+    /**
+     * Revokes the access token described by these claims. Tokens issued before ids were added
+     * carry no {@code jti} and can only expire.
+     */
+    @Transactional
+    public void revoke(Claims claims, Long profileId) {
+        String jti = claims.getId();
+        if (jti == null || revokedTokenRepository.existsById(jti)) {
+            return;
+        }
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(claims.getExpiration().toInstant(), ZoneId.systemDefault());
+        revokedTokenRepository.save(RevokedToken.builder()
+                .jti(jti)
+                .profileId(profileId)
+                .expiresAt(expiresAt)
+                .revokedAt(LocalDateTime.now())
+                .build());
+        revoked.increment();
+        applicationEventPublisher.publishEvent(toEvent(jti, profileId, claims.getExpiration().getTime()));
+    }
+
+    @Transactional(readOnly = true)
+    public List<TokenRevokedEvent> activeRevocations() {
+        return revokedTokenRepository.findByExpiresAtAfter(LocalDateTime.now()).stream()
+                .map(token -> toEvent(token.getJti(), token.getProfileId(),
+                        token.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()))
+                .toList();
+    }
+
+    @Scheduled(cron = "${auth.revocation.sweep-cron:0 50 * * * *}")
+    public void purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(tx -> {
+                List<String> jtis = revokedTokenRepository.findJtisExpiredBefore(cutoff, PageRequest.of(0, sweepBatchSize));
+                return jtis.isEmpty() ? 0 : revokedTokenRepository.deleteByJtis(jtis);
+            });
+            total += deleted;
+        } while (deleted == sweepBatchSize);
+        if (total > 0) {
+            log.info("Purged expired token revocations | count={}", total);
+        }
+    }
+
+    private static TokenRevokedEvent toEvent(String jti, Long profileId, long expiresAt) {
+        return TokenRevokedEvent.builder()
+                .jti(jti)
+                .profileId(profileId)
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
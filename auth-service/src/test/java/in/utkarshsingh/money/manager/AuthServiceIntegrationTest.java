@@ -8,6 +8,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -29,4 +30,22 @@ class AuthServiceIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status").value("UP"));
     }
+
+    @Test
+    void internalEndpoint_withoutToken_isUnauthorized() throws Exception {
+        mockMvc.perform(post("/internal/outbox/replay"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void internalEndpoint_withWrongToken_isUnauthorized() throws Exception {
+        mockMvc.perform(post("/internal/outbox/replay").header("X-Internal-Token", "wrong-token"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void revocationList_withoutToken_isUnauthorized() throws Exception {
+        mockMvc.perform(get("/internal/revocations"))
+                .andExpect(status().isUnauthorized());
+    }
 }
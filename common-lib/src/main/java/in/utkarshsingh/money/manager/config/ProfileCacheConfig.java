@@ -0,0 +1,60 @@
+package in.utkarshsingh.money.manager.config;
+
+import in.utkarshsingh.money.manager.security.CachingProfileResolver;
+import in.utkarshsingh.money.manager.security.ProfileChangedListener;
+import in.utkarshsingh.money.manager.security.ProfileRefSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Cross-request profile cache with broadcast eviction, shared by the services that resolve the
+ * caller's profile from their own {@link ProfileRefSource}. Opt in with
+ * {@code profile.cache.enabled=true}; auth-service owns profiles and does not use it.
+ */
+@Configuration
+@ConditionalOnProperty(name = "profile.cache.enabled", havingValue = "true")
+public class ProfileCacheConfig {
+
+    public static final String PROFILE_EVENTS_EXCHANGE = "profile-events-exchange";
+
+    @Bean
+    public CachingProfileResolver cachingProfileResolver(ProfileRefSource profileRefSource,
+                                                         MeterRegistry meterRegistry,
+                                                         @Value("${profile.cache.max-size:10000}") long maxSize,
+                                                         @Value("${profile.cache.ttl:10m}") Duration ttl) {
+        return new CachingProfileResolver(profileRefSource::findRefByEmail, maxSize, ttl, meterRegistry);
+    }
+
+    @Bean
+    public FanoutExchange profileEventsExchange() {
+        return new FanoutExchange(PROFILE_EVENTS_EXCHANGE);
+    }
+
+    /**
+     * One exclusive queue per instance so every instance evicts its own cache.
+     */
+    @Bean
+    public Queue profileEventsQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding profileEventsBinding(Queue profileEventsQueue, FanoutExchange profileEventsExchange) {
+        return BindingBuilder.bind(profileEventsQueue).to(profileEventsExchange);
+    }
+
+    @Bean
+    public ProfileChangedListener profileChangedListener(CachingProfileResolver cachingProfileResolver) {
+        return new ProfileChangedListener(cachingProfileResolver);
+    }
+}
@@ -0,0 +1,30 @@
+package in.utkarshsingh.money.manager.config;
+
+import in.utkarshsingh.money.manager.publisher.ProfileDataChangeBroadcaster;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Broadcasts committed financial writes on {@link #PROFILE_DATA_EXCHANGE} so analytics can drop
+ * cached aggregates. Opt in with {@code profile.data-events.enabled=true} in the services that
+ * own financial data.
+ */
+@Configuration
+@ConditionalOnProperty(name = "profile.data-events.enabled", havingValue = "true")
+public class ProfileDataEventsConfig {
+
+    public static final String PROFILE_DATA_EXCHANGE = "profile-data-exchange";
+
+    @Bean
+    public FanoutExchange profileDataExchange() {
+        return new FanoutExchange(PROFILE_DATA_EXCHANGE);
+    }
+
+    @Bean
+    public ProfileDataChangeBroadcaster profileDataChangeBroadcaster(RabbitTemplate rabbitTemplate) {
+        return new ProfileDataChangeBroadcaster(rabbitTemplate);
+    }
+}
@@ -0,0 +1,27 @@
+package in.utkarshsingh.money.manager.config;
+
+import in.utkarshsingh.money.manager.security.ProfileRef;
+import in.utkarshsingh.money.manager.security.UserContext;
+import org.springframework.core.task.TaskDecorator;
+
+public class UserContextTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        UserContext.UserInfo userInfo = UserContext.getCurrentUser();
+        ProfileRef resolvedProfile = UserContext.getResolvedProfile();
+        return () -> {
+            try {
+                if (userInfo != null) {
+                    UserContext.setCurrentUser(userInfo);
+                }
+                if (resolvedProfile != null) {
+                    UserContext.setResolvedProfile(resolvedProfile);
+                }
+                runnable.run();
+            } finally {
+                UserContext.clear();
+            }
+        };
+    }
+}
@@ -0,0 +1,9 @@
+package in.utkarshsingh.money.manager.enums;
+
+public enum FinancialDataType {
+    INCOME,
+    EXPENSE,
+    SAVINGS_GOAL,
+    INVESTMENT,
+    DEBT
+}
@@ -0,0 +1,13 @@
+package in.utkarshsingh.money.manager.event;
+
+import java.time.Instant;
+
+/**
+ * An already-serialized event as stored in an outbox, forwarded to the broker without decoding.
+ */
+public record EncodedEvent(String eventId,
+                           String contentType,
+                           int schemaVersion,
+                           byte[] body,
+                           Instant occurredAt) {
+}
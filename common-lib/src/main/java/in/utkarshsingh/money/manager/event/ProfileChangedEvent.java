@@ -0,0 +1,19 @@
+package in.utkarshsingh.money.manager.event;
+
+import in.utkarshsingh.money.manager.enums.ProfileChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfileChangedEvent {
+
+    private String eventId;
+    private Long profileId;
+    private String email;
+    private ProfileChangeType changeType;
+}
@@ -0,0 +1,28 @@
+package in.utkarshsingh.money.manager.event;
+
+import in.utkarshsingh.money.manager.enums.FinancialDataType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfileDataChangedEvent {
+
+    private String eventId;
+    private Long profileId;
+    private FinancialDataType dataType;
+
+    public static ProfileDataChangedEvent of(Long profileId, FinancialDataType dataType) {
+        return ProfileDataChangedEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .profileId(profileId)
+                .dataType(dataType)
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package in.utkarshsingh.money.manager.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Asks email-service to send a rendered report. The attachment is stored by analytics-service
+ * and fetched from {@code attachmentUrl} with {@code attachmentToken}; a DELETE to the same URL
+ * once the email is sent releases it.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportEmailEvent {
+
+    private String eventId;
+    private String email;
+    private String fullName;
+    private String reportTitle;
+    private String periodStart;
+    private String periodEnd;
+    private String fileName;
+    private String contentType;
+    private String attachmentUrl;
+    private String attachmentToken;
+}
@@ -0,0 +1,18 @@
+package in.utkarshsingh.money.manager.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenRevokedEvent {
+
+    private String jti;
+    private Long profileId;
+    /** Expiry of the revoked token in epoch millis; listeners can forget the id after this. */
+    private long expiresAt;
+}
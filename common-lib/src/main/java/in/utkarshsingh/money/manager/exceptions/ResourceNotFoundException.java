@@ -7,4 +7,8 @@ public class ResourceNotFoundException extends BaseAppException {
     public ResourceNotFoundException(String resourceName, Long id) {
         super(resourceName + " not found for id: " + id, ErrorCode.RESOURCE_NOT_FOUND);
     }
+
+    public ResourceNotFoundException(String resourceName, String id) {
+        super(resourceName + " not found for id: " + id, ErrorCode.RESOURCE_NOT_FOUND);
+    }
 }
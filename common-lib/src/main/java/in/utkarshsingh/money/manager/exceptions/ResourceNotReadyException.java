@@ -0,0 +1,10 @@
+package in.utkarshsingh.money.manager.exceptions;
+
+import in.utkarshsingh.money.manager.enums.ErrorCode;
+
+public class ResourceNotReadyException extends BaseAppException {
+
+    public ResourceNotReadyException(String resourceName, String id) {
+        super(resourceName + " is not ready for id: " + id, ErrorCode.RESOURCE_NOT_READY);
+    }
+}
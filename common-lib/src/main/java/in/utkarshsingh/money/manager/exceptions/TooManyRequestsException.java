@@ -0,0 +1,20 @@
+package in.utkarshsingh.money.manager.exceptions;
+
+import in.utkarshsingh.money.manager.enums.ErrorCode;
+import lombok.Getter;
+
+@Getter
+public class TooManyRequestsException extends BaseAppException {
+
+    /** Seconds the client should wait before retrying; 0 when unknown. */
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message) {
+        this(message, 0);
+    }
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message, ErrorCode.TOO_MANY_REQUESTS);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
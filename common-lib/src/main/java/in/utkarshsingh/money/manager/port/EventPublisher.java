@@ -1,7 +1,20 @@
 package in.utkarshsingh.money.manager.port;
 
-import in.utkarshsingh.money.manager.event.ProfileActivationEvent;
+import in.utkarshsingh.money.manager.event.EncodedEvent;
+import in.utkarshsingh.money.manager.event.ProfileChangedEvent;
+import in.utkarshsingh.money.manager.event.TokenRevokedEvent;
+
+import java.util.concurrent.CompletableFuture;
 
 public interface EventPublisher {
-    void publishProfileActivation(ProfileActivationEvent event, String eventId);
+
+    /**
+     * Publishes the stored activation event bytes as-is and completes with {@code true} once the
+     * broker confirms it, or {@code false} when the broker rejects it.
+     */
+    CompletableFuture<Boolean> publishProfileActivation(EncodedEvent event);
+
+    void publishProfileChanged(ProfileChangedEvent event);
+
+    void publishTokenRevoked(TokenRevokedEvent event);
 }
@@ -0,0 +1,31 @@
+package in.utkarshsingh.money.manager.publisher;
+
+import in.utkarshsingh.money.manager.config.ProfileDataEventsConfig;
+import in.utkarshsingh.money.manager.event.ProfileDataChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Broadcasts financial writes once the owning transaction commits so analytics never drops a
+ * cached aggregate ahead of the write. Delivery is best-effort; cached aggregates also expire.
+ * Registered by {@link ProfileDataEventsConfig}.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class ProfileDataChangeBroadcaster {
+
+    private final RabbitTemplate rabbitTemplate;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProfileDataChanged(ProfileDataChangedEvent event) {
+        try {
+            rabbitTemplate.convertAndSend(ProfileDataEventsConfig.PROFILE_DATA_EXCHANGE, "", event);
+        } catch (Exception ex) {
+            log.warn("Failed broadcasting data change | profileId={} | type={} | error={}",
+                    event.getProfileId(), event.getDataType(), ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package in.utkarshsingh.money.manager.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import in.utkarshsingh.money.manager.exceptions.UserNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Resolves the caller's email to a {@link ProfileRef}, first from the per-request memo in
+ * {@link UserContext}, then from a bounded cross-request cache, and only then from the database.
+ * Entries are dropped when auth-service broadcasts a profile change; the TTL is a safety net
+ * for missed broadcasts.
+ */
+public class CachingProfileResolver {
+
+    private final Function<String, Optional<ProfileRef>> loader;
+    private final Cache<String, ProfileRef> profiles;
+    private final Counter lookupsSaved;
+    private final Counter databaseLookups;
+
+    public CachingProfileResolver(Function<String, Optional<ProfileRef>> loader,
+                                  long maxSize,
+                                  Duration ttl,
+                                  MeterRegistry meterRegistry) {
+        this.loader = loader;
+        this.profiles = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.lookupsSaved = meterRegistry.counter("profile.resolver.lookups.saved");
+        this.databaseLookups = meterRegistry.counter("profile.resolver.lookups.database");
+        Gauge.builder("profile.resolver.hit.ratio", this, CachingProfileResolver::hitRatio)
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, profiles, "profile.refs");
+    }
+
+    public ProfileRef resolve(String email) {
+        ProfileRef memo = UserContext.getResolvedProfile();
+        if (memo != null && memo.email().equals(email)) {
+            lookupsSaved.increment();
+            return memo;
+        }
+        ProfileRef profile = profiles.getIfPresent(email);
+        if (profile != null) {
+            lookupsSaved.increment();
+        } else {
+            databaseLookups.increment();
+            profile = loader.apply(email).orElseThrow(() -> new UserNotFoundException(email));
+            profiles.put(email, profile);
+        }
+        UserContext.setResolvedProfile(profile);
+        return profile;
+    }
+
+    public void evict(String email) {
+        if (email != null) {
+            profiles.invalidate(email);
+        }
+    }
+
+    private double hitRatio() {
+        double saved = lookupsSaved.count();
+        double total = saved + databaseLookups.count();
+        return total == 0 ? 0 : saved / total;
+    }
+}
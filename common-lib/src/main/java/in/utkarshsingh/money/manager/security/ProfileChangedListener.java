@@ -0,0 +1,23 @@
+package in.utkarshsingh.money.manager.security;
+
+import in.utkarshsingh.money.manager.event.ProfileChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+
+/**
+ * Drops a cached profile when auth-service broadcasts a change. Registered by
+ * {@link in.utkarshsingh.money.manager.config.ProfileCacheConfig}.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class ProfileChangedListener {
+
+    private final CachingProfileResolver cachingProfileResolver;
+
+    @RabbitListener(queues = "#{profileEventsQueue.name}")
+    public void handleProfileChanged(ProfileChangedEvent event) {
+        log.debug("Evicting cached profile | profileId={} | type={}", event.getProfileId(), event.getChangeType());
+        cachingProfileResolver.evict(event.getEmail());
+    }
+}
@@ -0,0 +1,3 @@
+package in.utkarshsingh.money.manager.security;
+
+public record ProfileRef(Long id, String email, String fullName, Boolean isActive) {}
@@ -0,0 +1,12 @@
+package in.utkarshsingh.money.manager.security;
+
+import java.util.Optional;
+
+/**
+ * Loads the {@link ProfileRef} for an email. Each service's profile repository implements this
+ * with its own projection query.
+ */
+public interface ProfileRefSource {
+
+    Optional<ProfileRef> findRefByEmail(String email);
+}
@@ -5,6 +5,7 @@ import lombok.Getter;
 public final class UserContext {
 
     private static final ThreadLocal<UserInfo> CURRENT_USER = new ThreadLocal<>();
+    private static final ThreadLocal<ProfileRef> RESOLVED_PROFILE = new ThreadLocal<>();
 
     private UserContext() {}
 
@@ -12,6 +13,14 @@ public final class UserContext {
         CURRENT_USER.set(new UserInfo(userId, email));
     }
 
+    public static UserInfo getCurrentUser() {
+        return CURRENT_USER.get();
+    }
+
+    public static void setCurrentUser(UserInfo userInfo) {
+        CURRENT_USER.set(userInfo);
+    }
+
     public static String getCurrentEmail() {
         UserInfo info = CURRENT_USER.get();
         return info != null ? info.email() : null;
@@ -22,8 +31,17 @@ public final class UserContext {
         return info != null ? info.userId() : null;
     }
 
+    public static ProfileRef getResolvedProfile() {
+        return RESOLVED_PROFILE.get();
+    }
+
+    public static void setResolvedProfile(ProfileRef profile) {
+        RESOLVED_PROFILE.set(profile);
+    }
+
     public static void clear() {
         CURRENT_USER.remove();
+        RESOLVED_PROFILE.remove();
     }
 
     public record UserInfo(String userId, String email) {}
@@ -0,0 +1,68 @@
+package in.utkarshsingh.money.manager.util;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * CBOR encoding for events stored in outboxes and sent over AMQP. Producers stamp
+ * {@link #SCHEMA_VERSION} next to the bytes; readers ignore unknown fields so a newer producer
+ * can add fields without breaking older consumers.
+ * <p>
+ * {@link #SCHEMA_VERSION} is the major version and is bumped only for changes an older reader
+ * cannot ignore, such as a removed or retyped field. The header may also carry
+ * {@code "major.minor"}; the minor part marks additive changes and never blocks a reader.
+ */
+public final class BinaryEventCodec {
+
+    public static final String CONTENT_TYPE = "application/cbor";
+    public static final String SCHEMA_VERSION_HEADER = "x-schema-version";
+    public static final int SCHEMA_VERSION = 1;
+
+    private static final ObjectMapper MAPPER = CBORMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .findAndAddModules()
+            .build();
+
+    private BinaryEventCodec() {
+    }
+
+    public static byte[] encode(Object event) {
+        try {
+            return MAPPER.writeValueAsBytes(event);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to encode " + event.getClass().getSimpleName(), ex);
+        }
+    }
+
+    /**
+     * Whether a reader built against {@link #SCHEMA_VERSION} can decode a message stamped with
+     * {@code version}. A missing or unparseable header is treated as readable.
+     */
+    public static boolean isReadable(Object version) {
+        Integer major = null;
+        if (version instanceof Number number) {
+            major = number.intValue();
+        } else if (version != null) {
+            String text = version.toString().trim();
+            int dot = text.indexOf('.');
+            try {
+                major = Integer.valueOf(dot >= 0 ? text.substring(0, dot) : text);
+            } catch (NumberFormatException ignored) {
+                // not a version we recognise; let the decoder decide
+            }
+        }
+        return major == null || major <= SCHEMA_VERSION;
+    }
+
+    public static Object decode(byte[] body, Type type) {
+        try {
+            return MAPPER.readValue(body, MAPPER.constructType(type));
+        } catch (IOException ex) {
+            throw new IllegalArgumentException("Failed to decode " + type.getTypeName(), ex);
+        }
+    }
+}
@@ -1,9 +1,10 @@
 package in.utkarshsingh.money.manager;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication(exclude = {DataSourceAutoConfiguration.class})
+@SpringBootApplication
+@EnableScheduling
 public class EmailServiceApplication {
     public static void main(String[] args) {
         SpringApplication.run(EmailServiceApplication.class, args);
@@ -0,0 +1,42 @@
+package in.utkarshsingh.money.manager.config;
+
+import in.utkarshsingh.money.manager.util.BinaryEventCodec;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.lang.reflect.Type;
+
+/**
+ * Decodes CBOR event bodies into the listener's declared parameter type. Messages stamped with
+ * a newer major schema version than this service understands are rejected rather than
+ * half-read; minor (additive) changes are decoded with unknown fields ignored.
+ */
+class CborMessageConverter implements MessageConverter {
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) {
+        messageProperties.setContentType(BinaryEventCodec.CONTENT_TYPE);
+        messageProperties.setHeader(BinaryEventCodec.SCHEMA_VERSION_HEADER, BinaryEventCodec.SCHEMA_VERSION);
+        return new Message(BinaryEventCodec.encode(object), messageProperties);
+    }
+
+    @Override
+    public Object fromMessage(Message message) {
+        MessageProperties properties = message.getMessageProperties();
+        Object version = properties.getHeader(BinaryEventCodec.SCHEMA_VERSION_HEADER);
+        if (!BinaryEventCodec.isReadable(version)) {
+            throw new MessageConversionException("Unsupported schema version " + version);
+        }
+        Type target = properties.getInferredArgumentType();
+        if (target == null) {
+            throw new MessageConversionException("No target type for CBOR message");
+        }
+        try {
+            return BinaryEventCodec.decode(message.getBody(), target);
+        } catch (IllegalArgumentException ex) {
+            throw new MessageConversionException("Failed to decode CBOR message", ex);
+        }
+    }
+}
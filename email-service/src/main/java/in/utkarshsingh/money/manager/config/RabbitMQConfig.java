@@ -1,24 +1,131 @@
 package in.utkarshsingh.money.manager.config;
 
+import in.utkarshsingh.money.manager.util.BinaryEventCodec;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.support.converter.ContentTypeDelegatingMessageConverter;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.List;
+
 @Configuration
 public class RabbitMQConfig {
 
     public static final String PROFILE_ACTIVATION_QUEUE = "profile-activation-queue";
+    public static final String PROFILE_ACTIVATION_DLQ = "profile-activation-dlq";
+    public static final String REPORT_EMAIL_QUEUE = "report-email-queue";
+    public static final String REPORT_EMAIL_DLQ = "report-email-dlq";
+
+    private static final String PROFILE_ACTIVATION_RETRY_PREFIX = "profile-activation-retry-";
+    private static final String REPORT_EMAIL_RETRY_PREFIX = "report-email-retry-";
 
     @Bean
     public Queue profileActivationQueue() {
         return QueueBuilder.durable(PROFILE_ACTIVATION_QUEUE).build();
     }
 
+    @Bean
+    public Queue profileActivationDeadLetterQueue() {
+        return QueueBuilder.durable(PROFILE_ACTIVATION_DLQ).build();
+    }
+
+    /**
+     * One parking queue per backoff step. Messages sit there for the queue TTL and are then
+     * dead-lettered straight back onto the activation queue. The delay is part of the queue name,
+     * so changing the schedule declares new queues instead of clashing with existing arguments.
+     */
+    @Bean
+    public Declarables profileActivationRetryQueues(
+            @Value("${email.activation.retry-delays:5s,30s,2m,10m}") List<Duration> retryDelays) {
+        List<Declarable> queues = retryDelays.stream()
+                .<Declarable>map(delay -> QueueBuilder.durable(activationRetryQueue(delay))
+                        .ttl((int) delay.toMillis())
+                        .deadLetterExchange("")
+                        .deadLetterRoutingKey(PROFILE_ACTIVATION_QUEUE)
+                        .build())
+                .toList();
+        return new Declarables(queues);
+    }
+
+    public static String activationRetryQueue(Duration delay) {
+        return PROFILE_ACTIVATION_RETRY_PREFIX + delay.toSeconds() + "s";
+    }
+
+    /**
+     * Hands the activation listener micro-batches of up to {@code batch-size} messages, or
+     * whatever arrived within {@code batch-timeout}, so one SMTP connection serves the batch.
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory activationListenerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            @Value("${email.activation.concurrency:4}") int concurrency,
+            @Value("${email.activation.max-concurrency:8}") int maxConcurrency,
+            @Value("${email.activation.prefetch:20}") int prefetch,
+            @Value("${email.activation.batch-size:10}") int batchSize,
+            @Value("${email.activation.batch-timeout:200ms}") Duration batchTimeout) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setConcurrentConsumers(concurrency);
+        factory.setMaxConcurrentConsumers(maxConcurrency);
+        factory.setPrefetchCount(Math.max(prefetch, batchSize));
+        factory.setDefaultRequeueRejected(false);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setReceiveTimeout(batchTimeout.toMillis());
+        return factory;
+    }
+
+    @Bean
+    public Queue reportEmailQueue() {
+        return QueueBuilder.durable(REPORT_EMAIL_QUEUE).build();
+    }
+
+    @Bean
+    public Queue reportEmailDeadLetterQueue() {
+        return QueueBuilder.durable(REPORT_EMAIL_DLQ).build();
+    }
+
+    /**
+     * Backoff queues for report emails, built the same way as the activation retry queues.
+     */
+    @Bean
+    public Declarables reportEmailRetryQueues(
+            @Value("${email.report.retry-delays:30s,2m,10m,30m}") List<Duration> retryDelays) {
+        List<Declarable> queues = retryDelays.stream()
+                .<Declarable>map(delay -> QueueBuilder.durable(reportRetryQueue(delay))
+                        .ttl((int) delay.toMillis())
+                        .deadLetterExchange("")
+                        .deadLetterRoutingKey(REPORT_EMAIL_QUEUE)
+                        .build())
+                .toList();
+        return new Declarables(queues);
+    }
+
+    public static String reportRetryQueue(Duration delay) {
+        return REPORT_EMAIL_RETRY_PREFIX + delay.toSeconds() + "s";
+    }
+
+    /**
+     * Accepts both CBOR (current producers) and JSON (older producers and other services),
+     * chosen by the message content type.
+     */
     @Bean
     public MessageConverter jsonMessageConverter() {
-        return new Jackson2JsonMessageConverter();
+        ContentTypeDelegatingMessageConverter converter =
+                new ContentTypeDelegatingMessageConverter(new Jackson2JsonMessageConverter());
+        converter.addDelegate(BinaryEventCodec.CONTENT_TYPE, new CborMessageConverter());
+        return converter;
     }
 }
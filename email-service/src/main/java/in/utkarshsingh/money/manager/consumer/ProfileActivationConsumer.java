@@ -1,25 +1,73 @@
 package in.utkarshsingh.money.manager.consumer;
 
+import in.utkarshsingh.money.manager.config.RabbitMQConfig;
 import in.utkarshsingh.money.manager.event.ProfileActivationEvent;
+import in.utkarshsingh.money.manager.service.PooledSmtpSender;
+import in.utkarshsingh.money.manager.service.ProcessedEventStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.ImmediateRequeueAmqpException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.QueueInformation;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Component;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sends activation emails in micro-batches over one pooled SMTP connection. A failed send is
+ * parked on the next retry queue, which returns it to the activation queue after that step's
+ * delay; once every step is used up the message goes to the dead-letter queue. The original
+ * delivery is acked either way, so one bad address never blocks the consumers behind it.
+ * Redeliveries of an event that was already sent are skipped before any rendering happens;
+ * one still claimed by another delivery goes to the retry queues, so it is sent after all if
+ * that delivery dies before finishing.
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class ProfileActivationConsumer {
 
+    static final String RETRY_COUNT_HEADER = "x-retry-count";
+    static final String EVENT_ID_HEADER = "eventId";
+
     private final JavaMailSender mailSender;
     private final TemplateEngine templateEngine;
+    private final PooledSmtpSender pooledSmtpSender;
+    private final ProcessedEventStore processedEventStore;
+    private final MessageConverter messageConverter;
+    private final RabbitTemplate rabbitTemplate;
+    private final List<Duration> retryDelays;
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter deadLettered;
+    private final Counter duplicates;
+    private final Timer batchTimer;
+    private final DistributionSummary batchSize;
+    private final Timer latency;
 
     @Value("${spring.mail.properties.mail.smtp.from}")
     private String fromEmail;
@@ -27,28 +75,183 @@ public class ProfileActivationConsumer {
     @Value("${app.activation.url:http://localhost:8080}")
     private String activationBaseUrl;
 
-    @RabbitListener(queues = "profile-activation-queue")
-    public void handleProfileActivation(ProfileActivationEvent event) {
-        log.info("Received activation event for: {}", event.getEmail());
+    public ProfileActivationConsumer(JavaMailSender mailSender,
+                                     TemplateEngine templateEngine,
+                                     PooledSmtpSender pooledSmtpSender,
+                                     ProcessedEventStore processedEventStore,
+                                     MessageConverter messageConverter,
+                                     RabbitTemplate rabbitTemplate,
+                                     AmqpAdmin amqpAdmin,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${email.activation.retry-delays:5s,30s,2m,10m}") List<Duration> retryDelays) {
+        this.mailSender = mailSender;
+        this.templateEngine = templateEngine;
+        this.pooledSmtpSender = pooledSmtpSender;
+        this.processedEventStore = processedEventStore;
+        this.messageConverter = messageConverter;
+        this.rabbitTemplate = rabbitTemplate;
+        this.retryDelays = List.copyOf(retryDelays);
+        this.sent = meterRegistry.counter("activation.email.sent");
+        this.retried = meterRegistry.counter("activation.email.retried");
+        this.deadLettered = meterRegistry.counter("activation.email.dead-lettered");
+        this.duplicates = meterRegistry.counter("activation.email.duplicates");
+        this.batchTimer = Timer.builder("activation.email.batch")
+                .description("Time to render and send one batch of activation emails")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("activation.email.batch.size")
+                .description("Activation emails per batch")
+                .register(meterRegistry);
+        this.latency = Timer.builder("activation.email.latency")
+                .description("Time from registration to activation email sent")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        registerDepthGauge(meterRegistry, amqpAdmin, RabbitMQConfig.PROFILE_ACTIVATION_QUEUE);
+        registerDepthGauge(meterRegistry, amqpAdmin, RabbitMQConfig.PROFILE_ACTIVATION_DLQ);
+        this.retryDelays.forEach(delay ->
+                registerDepthGauge(meterRegistry, amqpAdmin, RabbitMQConfig.activationRetryQueue(delay)));
+    }
+
+    @RabbitListener(queues = RabbitMQConfig.PROFILE_ACTIVATION_QUEUE, containerFactory = "activationListenerFactory")
+    public void handleProfileActivations(List<Message> batch) {
+        long start = System.nanoTime();
+        Map<MimeMessage, Pending> outgoing = new LinkedHashMap<>();
+        for (Message amqpMessage : batch) {
+            ProfileActivationEvent event = decode(amqpMessage);
+            if (event == null) {
+                continue;
+            }
+            String eventId = eventId(amqpMessage, event);
+            ProcessedEventStore.Claim claim = processedEventStore.claim(eventId);
+            if (claim == ProcessedEventStore.Claim.DUPLICATE) {
+                duplicates.increment();
+                log.info("Skipping duplicate activation event | eventId={}", eventId);
+                continue;
+            }
+            if (claim == ProcessedEventStore.Claim.IN_PROGRESS) {
+                retry(amqpMessage, event, "event is claimed by another delivery");
+                continue;
+            }
+            try {
+                outgoing.put(buildMessage(event), new Pending(amqpMessage, event, eventId));
+            } catch (Exception ex) {
+                scheduleRetry(amqpMessage, event, eventId, ex);
+            }
+        }
+
+        Map<Object, Exception> failures = Map.of();
+        if (!outgoing.isEmpty()) {
+            try {
+                pooledSmtpSender.send(outgoing.keySet().toArray(MimeMessage[]::new));
+            } catch (MailSendException ex) {
+                failures = ex.getFailedMessages();
+            }
+        }
+        List<String> sentIds = new ArrayList<>();
+        for (Map.Entry<MimeMessage, Pending> entry : outgoing.entrySet()) {
+            Pending pending = entry.getValue();
+            Exception failure = failures.get(entry.getKey());
+            if (failure != null) {
+                scheduleRetry(pending.amqpMessage(), pending.event(), pending.eventId(), failure);
+            } else {
+                sentIds.add(pending.eventId());
+                sent.increment();
+                recordLatency(pending.amqpMessage().getMessageProperties().getTimestamp());
+                log.info("Activation email sent to: {}", pending.event().getEmail());
+            }
+        }
+        processedEventStore.markSent(sentIds);
+        batchSize.record(batch.size());
+        batchTimer.record(Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private ProfileActivationEvent decode(Message amqpMessage) {
+        amqpMessage.getMessageProperties().setInferredArgumentType(ProfileActivationEvent.class);
+        try {
+            return (ProfileActivationEvent) messageConverter.fromMessage(amqpMessage);
+        } catch (Exception ex) {
+            log.error("Dead-lettering undecodable activation message | error={}", ex.getMessage());
+            park(amqpMessage, RabbitMQConfig.PROFILE_ACTIVATION_DLQ);
+            deadLettered.increment();
+            return null;
+        }
+    }
+
+    private static String eventId(Message amqpMessage, ProfileActivationEvent event) {
+        Object header = amqpMessage.getMessageProperties().getHeader(EVENT_ID_HEADER);
+        return header != null ? header.toString() : event.getEventId();
+    }
+
+    private MimeMessage buildMessage(ProfileActivationEvent event) throws MessagingException {
+        String activationLink = activationBaseUrl + "/api/v1/activate?token=" + event.getActivationToken();
+
+        Context ctx = new Context();
+        ctx.setVariable("fullName", event.getFullName());
+        ctx.setVariable("activationLink", activationLink);
+        String htmlBody = templateEngine.process("activation-email", ctx);
+
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setFrom(fromEmail);
+        helper.setTo(event.getEmail());
+        helper.setSubject("Activate Your Money Manager Account");
+        helper.setText(htmlBody, true);
+        return message;
+    }
+
+    private void scheduleRetry(Message amqpMessage, ProfileActivationEvent event, String eventId, Exception cause) {
+        processedEventStore.release(eventId);
+        retry(amqpMessage, event, cause.getMessage());
+    }
+
+    private void retry(Message amqpMessage, ProfileActivationEvent event, String reason) {
+        MessageProperties properties = amqpMessage.getMessageProperties();
+        int attempt = properties.getHeader(RETRY_COUNT_HEADER) instanceof Number number ? number.intValue() : 0;
+        properties.setHeader(RETRY_COUNT_HEADER, attempt + 1);
+        if (attempt < retryDelays.size()) {
+            Duration delay = retryDelays.get(attempt);
+            park(amqpMessage, RabbitMQConfig.activationRetryQueue(delay));
+            retried.increment();
+            log.warn("Activation email to: {} failed, retrying in {} | attempt={} | error={}",
+                    event.getEmail(), delay, attempt + 1, reason);
+        } else {
+            park(amqpMessage, RabbitMQConfig.PROFILE_ACTIVATION_DLQ);
+            deadLettered.increment();
+            log.error("Activation email to: {} dead-lettered after {} attempts | error={}",
+                    event.getEmail(), attempt + 1, reason);
+        }
+    }
+
+    private void park(Message amqpMessage, String queue) {
+        amqpMessage.getMessageProperties().setDeliveryMode(MessageDeliveryMode.PERSISTENT);
         try {
-            String activationLink = activationBaseUrl + "/api/v1/activate?token=" + event.getActivationToken();
-
-            Context ctx = new Context();
-            ctx.setVariable("fullName", event.getFullName());
-            ctx.setVariable("activationLink", activationLink);
-            String htmlBody = templateEngine.process("activation-email", ctx);
-
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-            helper.setFrom(fromEmail);
-            helper.setTo(event.getEmail());
-            helper.setSubject("Activate Your Money Manager Account");
-            helper.setText(htmlBody, true);
-            mailSender.send(message);
-
-            log.info("Activation email sent to: {}", event.getEmail());
-        } catch (MessagingException ex) {
-            log.error("Failed to send activation email to: {} | error={}", event.getEmail(), ex.getMessage());
+            rabbitTemplate.send("", queue, amqpMessage);
+        } catch (AmqpException ex) {
+            throw new ImmediateRequeueAmqpException("Could not park failed activation email", ex);
         }
     }
+
+    /**
+     * End-to-end activation latency: the relay stamps each message with its outbox insert time.
+     */
+    private void recordLatency(Date registeredAt) {
+        if (registeredAt != null) {
+            latency.record(Duration.between(registeredAt.toInstant(), Instant.now()));
+        }
+    }
+
+    private static void registerDepthGauge(MeterRegistry meterRegistry, AmqpAdmin amqpAdmin, String queue) {
+        Gauge.builder("activation.email.queue.depth", amqpAdmin, admin -> queueDepth(admin, queue))
+                .description("Messages waiting in an activation email queue")
+                .tag("queue", queue)
+                .register(meterRegistry);
+    }
+
+    private static double queueDepth(AmqpAdmin admin, String queue) {
+        QueueInformation info = admin.getQueueInfo(queue);
+        return info != null ? info.getMessageCount() : Double.NaN;
+    }
+
+    private record Pending(Message amqpMessage, ProfileActivationEvent event, String eventId) {
+    }
 }
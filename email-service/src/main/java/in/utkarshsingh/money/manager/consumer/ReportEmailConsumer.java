@@ -0,0 +1,245 @@
+package in.utkarshsingh.money.manager.consumer;
+
+import in.utkarshsingh.money.manager.config.RabbitMQConfig;
+import in.utkarshsingh.money.manager.event.ReportEmailEvent;
+import in.utkarshsingh.money.manager.service.PooledSmtpSender;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.ImmediateRequeueAmqpException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends report emails rendered by analytics-service. The attachment is streamed from
+ * analytics-service into a local temp file and attached from disk, so message size never
+ * lands in heap; the temp file is removed once the send finishes either way. After a
+ * successful send the stored attachment is released on the analytics side. A failed send is
+ * parked on retry queues and finally the dead-letter queue, as activation emails are.
+ */
+@Component
+@Slf4j
+public class ReportEmailConsumer {
+
+    static final String RETRY_COUNT_HEADER = "x-retry-count";
+
+    private final JavaMailSender mailSender;
+    private final PooledSmtpSender pooledSmtpSender;
+    private final RabbitTemplate rabbitTemplate;
+    private final List<Duration> retryDelays;
+    private final TemplateEngine templateEngine;
+    private final HttpClient httpClient;
+    private final Path spoolDir;
+    private final Duration downloadTimeout;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter sent;
+    private final Counter failed;
+    private final Counter retried;
+    private final Counter deadLettered;
+    private final Timer sendTimer;
+    private final DistributionSummary attachmentBytes;
+
+    @Value("${spring.mail.properties.mail.smtp.from}")
+    private String fromEmail;
+
+    public ReportEmailConsumer(JavaMailSender mailSender,
+                               PooledSmtpSender pooledSmtpSender,
+                               RabbitTemplate rabbitTemplate,
+                               TemplateEngine templateEngine,
+                               HttpClient attachmentHttpClient,
+                               AmqpAdmin amqpAdmin,
+                               MeterRegistry meterRegistry,
+                               @Value("${email.report.spool-dir:${java.io.tmpdir}/report-attachments}") String spoolDir,
+                               @Value("${email.report.download-timeout:2m}") Duration downloadTimeout,
+                               @Value("${email.report.retry-delays:30s,2m,10m,30m}") List<Duration> retryDelays) throws IOException {
+        this.mailSender = mailSender;
+        this.pooledSmtpSender = pooledSmtpSender;
+        this.rabbitTemplate = rabbitTemplate;
+        this.retryDelays = List.copyOf(retryDelays);
+        this.templateEngine = templateEngine;
+        this.httpClient = attachmentHttpClient;
+        this.spoolDir = Files.createDirectories(Paths.get(spoolDir));
+        this.downloadTimeout = downloadTimeout;
+        this.sent = meterRegistry.counter("report.email.sent");
+        this.failed = meterRegistry.counter("report.email.failed");
+        this.retried = meterRegistry.counter("report.email.retried");
+        this.deadLettered = meterRegistry.counter("report.email.dead-lettered");
+        this.sendTimer = meterRegistry.timer("report.email.send");
+        this.attachmentBytes = DistributionSummary.builder("report.email.attachment.size")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("report.email.in-flight", inFlight, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("report.email.pending", amqpAdmin, ReportEmailConsumer::pendingMessages)
+                .description("Report emails waiting in the queue")
+                .register(meterRegistry);
+    }
+
+    @RabbitListener(queues = RabbitMQConfig.REPORT_EMAIL_QUEUE, concurrency = "${email.report.concurrency:2-4}")
+    public void handleReportEmail(ReportEmailEvent event, Message amqpMessage) {
+        inFlight.incrementAndGet();
+        Path attachment = null;
+        try {
+            attachment = Files.createTempFile(spoolDir, "report-", ".part");
+            download(event, attachment);
+            attachmentBytes.record(Files.size(attachment));
+
+            Context ctx = new Context();
+            ctx.setVariable("fullName", event.getFullName());
+            ctx.setVariable("reportTitle", event.getReportTitle());
+            ctx.setVariable("periodStart", event.getPeriodStart());
+            ctx.setVariable("periodEnd", event.getPeriodEnd());
+            String htmlBody = templateEngine.process("report-email", ctx);
+
+            MimeMessage message = mailSender.createMimeMessage();
+            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+            helper.setFrom(fromEmail);
+            helper.setTo(event.getEmail());
+            helper.setSubject("Your " + event.getReportTitle());
+            helper.setText(htmlBody, true);
+            helper.addAttachment(event.getFileName(), new FileSystemResource(attachment), event.getContentType());
+            sendTimer.record(() -> pooledSmtpSender.send(message));
+        } catch (AttachmentGoneException ex) {
+            log.info("Report attachment already released, skipping redelivered email to: {} | file={}",
+                    event.getEmail(), event.getFileName());
+            return;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            scheduleRetry(amqpMessage, event, ex);
+            return;
+        } catch (Exception ex) {
+            scheduleRetry(amqpMessage, event, ex);
+            return;
+        } finally {
+            inFlight.decrementAndGet();
+            deleteQuietly(attachment);
+        }
+
+        sent.increment();
+        log.info("Report email sent to: {} | file={}", event.getEmail(), event.getFileName());
+        try {
+            releaseAttachment(event);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Parks a failed report email on the next retry queue, or on the dead-letter queue once every
+     * step is used up. analytics-service keeps the stored attachment for its
+     * {@code attachment-ttl}, so a dead-lettered message can be re-driven within that window;
+     * after it the attachment is gone and the message is dropped.
+     */
+    private void scheduleRetry(Message amqpMessage, ReportEmailEvent event, Exception cause) {
+        failed.increment();
+        MessageProperties properties = amqpMessage.getMessageProperties();
+        int attempt = properties.getHeader(RETRY_COUNT_HEADER) instanceof Number number ? number.intValue() : 0;
+        properties.setHeader(RETRY_COUNT_HEADER, attempt + 1);
+        if (attempt < retryDelays.size()) {
+            Duration delay = retryDelays.get(attempt);
+            park(amqpMessage, RabbitMQConfig.reportRetryQueue(delay));
+            retried.increment();
+            log.warn("Report email to: {} failed, retrying in {} | attempt={} | error={}",
+                    event.getEmail(), delay, attempt + 1, cause.getMessage());
+        } else {
+            park(amqpMessage, RabbitMQConfig.REPORT_EMAIL_DLQ);
+            deadLettered.increment();
+            log.error("Report email to: {} dead-lettered after {} attempts | error={}",
+                    event.getEmail(), attempt + 1, cause.getMessage());
+        }
+    }
+
+    private void park(Message amqpMessage, String queue) {
+        amqpMessage.getMessageProperties().setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        try {
+            rabbitTemplate.send("", queue, amqpMessage);
+        } catch (AmqpException ex) {
+            throw new ImmediateRequeueAmqpException("Could not park failed report email", ex);
+        }
+    }
+
+    private void download(ReportEmailEvent event, Path target) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(event.getAttachmentUrl()))
+                .header("X-Report-Token", event.getAttachmentToken())
+                .timeout(downloadTimeout)
+                .GET()
+                .build();
+        HttpResponse<Path> response = httpClient.send(request, HttpResponse.BodyHandlers.ofFile(target));
+        if (response.statusCode() == 404) {
+            throw new AttachmentGoneException();
+        }
+        if (response.statusCode() != 200) {
+            throw new IOException("Attachment download failed with status " + response.statusCode());
+        }
+    }
+
+    /**
+     * Best effort: a failure leaves the stored attachment behind but never resends the email.
+     */
+    private void releaseAttachment(ReportEmailEvent event) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(event.getAttachmentUrl()))
+                .header("X-Report-Token", event.getAttachmentToken())
+                .timeout(downloadTimeout)
+                .DELETE()
+                .build();
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() / 100 != 2) {
+                log.warn("Failed releasing report attachment | url={} | status={}",
+                        event.getAttachmentUrl(), response.statusCode());
+            }
+        } catch (IOException ex) {
+            log.warn("Failed releasing report attachment | url={} | error={}", event.getAttachmentUrl(), ex.getMessage());
+        }
+    }
+
+    private static double pendingMessages(AmqpAdmin admin) {
+        QueueInformation info = admin.getQueueInfo(RabbitMQConfig.REPORT_EMAIL_QUEUE);
+        return info != null ? info.getMessageCount() : Double.NaN;
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.warn("Failed deleting report attachment | file={} | error={}", file, ex.getMessage());
+        }
+    }
+
+    /**
+     * The attachment was released after an earlier delivery of the same event.
+     */
+    private static class AttachmentGoneException extends IOException {
+    }
+}
@@ -0,0 +1,31 @@
+package in.utkarshsingh.money.manager.entity;
+
+import in.utkarshsingh.money.manager.enums.ProcessedEventStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "email_processed_events", indexes = {
+        @Index(name = "idx_email_processed_at", columnList = "processedAt")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProcessedEvent {
+
+    @Id
+    @Column(length = 64)
+    private String eventId;
+
+    /** Null on rows written before claims had a status; those count as sent. */
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private ProcessedEventStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime processedAt;
+}
@@ -0,0 +1,6 @@
+package in.utkarshsingh.money.manager.enums;
+
+public enum ProcessedEventStatus {
+    CLAIMED,
+    SENT
+}
@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class ProfileActivationEvent {
+    private String eventId;
     private String email;
     private String fullName;
     private String activationToken;
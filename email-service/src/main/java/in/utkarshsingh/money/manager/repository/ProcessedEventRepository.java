@@ -0,0 +1,48 @@
+package in.utkarshsingh.money.manager.repository;
+
+import in.utkarshsingh.money.manager.entity.ProcessedEvent;
+import in.utkarshsingh.money.manager.enums.ProcessedEventStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ProcessedEventRepository extends JpaRepository<ProcessedEvent, String> {
+
+    /**
+     * Claims the event id; returns 0 when another delivery already holds it.
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO email_processed_events (event_id, status, processed_at) "
+            + "VALUES (:eventId, 'CLAIMED', :now)",
+            nativeQuery = true)
+    int claim(@Param("eventId") String eventId, @Param("now") LocalDateTime now);
+
+    /**
+     * Takes over a claim whose holder never marked it sent within the lease; returns 0 when the
+     * claim is still live, already sent, or taken over by someone else first.
+     */
+    @Modifying
+    @Query("UPDATE ProcessedEvent e SET e.processedAt = :now "
+            + "WHERE e.eventId = :eventId AND e.status = :claimed AND e.processedAt < :leaseCutoff")
+    int reclaimExpired(@Param("eventId") String eventId,
+                       @Param("claimed") ProcessedEventStatus claimed,
+                       @Param("now") LocalDateTime now,
+                       @Param("leaseCutoff") LocalDateTime leaseCutoff);
+
+    @Modifying
+    @Query("UPDATE ProcessedEvent e SET e.status = :status WHERE e.eventId IN :eventIds")
+    int updateStatus(@Param("eventIds") Collection<String> eventIds, @Param("status") ProcessedEventStatus status);
+
+    @Query("SELECT e.eventId FROM ProcessedEvent e WHERE e.processedAt < :cutoff ORDER BY e.processedAt")
+    List<String> findIdsProcessedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM ProcessedEvent e WHERE e.eventId IN :eventIds")
+    int deleteByIds(@Param("eventIds") Collection<String> eventIds);
+}
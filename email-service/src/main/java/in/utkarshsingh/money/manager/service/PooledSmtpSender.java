@@ -0,0 +1,172 @@
+package in.utkarshsingh.money.manager.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Sends mail over a small pool of long-lived SMTP connections instead of a fresh connect and
+ * STARTTLS handshake per message. A batch goes out over one borrowed connection; every message
+ * is paced by the provider's rate limit. Connections idle for longer than the server is likely
+ * to keep them open are replaced on the next borrow.
+ */
+@Service
+@Slf4j
+public class PooledSmtpSender {
+
+    private final JavaMailSenderImpl mailSender;
+    private final BlockingQueue<PooledTransport> idle = new LinkedBlockingQueue<>();
+    private final Semaphore permits;
+    private final long maxIdleNanos;
+    private final SendRateLimiter rateLimiter;
+    private final Counter connectionsOpened;
+    private final Timer sendTimer;
+
+    public PooledSmtpSender(JavaMailSenderImpl mailSender,
+                            MeterRegistry meterRegistry,
+                            @Value("${email.smtp.pool-size:4}") int poolSize,
+                            @Value("${email.smtp.max-idle:2m}") Duration maxIdle,
+                            @Value("${email.smtp.max-per-second:10}") double maxPerSecond,
+                            @Value("${email.smtp.burst:5}") int burst) {
+        this.mailSender = mailSender;
+        this.permits = new Semaphore(poolSize);
+        this.maxIdleNanos = maxIdle.toNanos();
+        this.rateLimiter = new SendRateLimiter(maxPerSecond, burst);
+        String provider = String.valueOf(mailSender.getHost());
+        this.connectionsOpened = Counter.builder("email.smtp.connections.opened")
+                .tag("provider", provider)
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder("email.smtp.send")
+                .description("Time to send one message over a pooled connection")
+                .tag("provider", provider)
+                .register(meterRegistry);
+        Gauge.builder("email.smtp.connections.idle", idle, BlockingQueue::size)
+                .tag("provider", provider)
+                .register(meterRegistry);
+    }
+
+    public void send(MimeMessage message) {
+        send(new MimeMessage[]{message});
+    }
+
+    /**
+     * Sends every message over one connection. Failures do not stop the batch; they are reported
+     * together in a {@link MailSendException} keyed by the failed message. If the batch is cut
+     * short, only the messages not yet delivered are reported, so none is sent twice on retry.
+     */
+    public void send(MimeMessage... messages) {
+        Map<Object, Exception> failures = new LinkedHashMap<>();
+        Set<MimeMessage> delivered = Collections.newSetFromMap(new IdentityHashMap<>());
+        PooledTransport transport = null;
+        try {
+            permits.acquire();
+            try {
+                transport = borrow();
+                for (MimeMessage message : messages) {
+                    rateLimiter.acquire();
+                    try {
+                        message.saveChanges();
+                        Transport current = transport.transport();
+                        sendTimer.recordCallable(() -> {
+                            current.sendMessage(message, message.getAllRecipients());
+                            return null;
+                        });
+                        delivered.add(message);
+                    } catch (Exception ex) {
+                        failures.put(message, ex);
+                        if (!transport.transport().isConnected()) {
+                            closeQuietly(transport);
+                            transport = null;
+                            transport = connect();
+                        }
+                    }
+                }
+            } finally {
+                release(transport);
+                permits.release();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            failUndelivered(messages, delivered, failures, ex);
+        } catch (MessagingException ex) {
+            failUndelivered(messages, delivered, failures, ex);
+        }
+        if (!failures.isEmpty()) {
+            throw new MailSendException(failures);
+        }
+    }
+
+    private static void failUndelivered(MimeMessage[] messages, Set<MimeMessage> delivered,
+                                        Map<Object, Exception> failures, Exception cause) {
+        for (MimeMessage message : messages) {
+            if (!delivered.contains(message)) {
+                failures.putIfAbsent(message, cause);
+            }
+        }
+    }
+
+    private PooledTransport borrow() throws MessagingException {
+        PooledTransport pooled;
+        while ((pooled = idle.poll()) != null) {
+            if (System.nanoTime() - pooled.lastUsed() < maxIdleNanos && pooled.transport().isConnected()) {
+                return pooled;
+            }
+            closeQuietly(pooled);
+        }
+        return connect();
+    }
+
+    private PooledTransport connect() throws MessagingException {
+        String protocol = mailSender.getProtocol() != null ? mailSender.getProtocol() : "smtp";
+        Transport transport = mailSender.getSession().getTransport(protocol);
+        transport.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword());
+        connectionsOpened.increment();
+        return new PooledTransport(transport, System.nanoTime());
+    }
+
+    private void release(PooledTransport pooled) {
+        if (pooled == null) {
+            return;
+        }
+        idle.offer(new PooledTransport(pooled.transport(), System.nanoTime()));
+    }
+
+    @PreDestroy
+    public void close() {
+        PooledTransport pooled;
+        while ((pooled = idle.poll()) != null) {
+            closeQuietly(pooled);
+        }
+    }
+
+    private void closeQuietly(PooledTransport pooled) {
+        try {
+            pooled.transport().close();
+        } catch (MessagingException ex) {
+            log.debug("Failed closing SMTP connection | error={}", ex.getMessage());
+        }
+    }
+
+    private record PooledTransport(Transport transport, long lastUsed) {
+    }
+}
@@ -0,0 +1,169 @@
+package in.utkarshsingh.money.manager.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import in.utkarshsingh.money.manager.entity.ProcessedEvent;
+import in.utkarshsingh.money.manager.enums.ProcessedEventStatus;
+import in.utkarshsingh.money.manager.repository.ProcessedEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Remembers which event ids have already been handled so redelivered messages are skipped
+ * before any work is done. Ids confirmed sent are answered from a bounded in-memory LRU without
+ * locking; everything else is claimed in {@code email_processed_events} with an atomic insert,
+ * which also settles races between concurrent consumers and between instances.
+ * <p>
+ * A claim is a lease. It becomes final only when {@link #markSent} records the send; a claim
+ * left behind by a consumer that died mid-batch can be taken over once {@code claim-lease}
+ * has passed, so a crash never turns into a lost email.
+ */
+@Service
+@Slf4j
+public class ProcessedEventStore {
+
+    private final ProcessedEventRepository processedEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<String, Boolean> recent;
+    private final Duration ttl;
+    private final Duration claimLease;
+    private final int cleanupBatchSize;
+    private final Counter memoryHits;
+    private final Counter databaseHits;
+    private final Counter claims;
+
+    public ProcessedEventStore(ProcessedEventRepository processedEventRepository,
+                               TransactionTemplate transactionTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${email.dedupe.cache-size:100000}") long cacheSize,
+                               @Value("${email.dedupe.ttl:7d}") Duration ttl,
+                               @Value("${email.dedupe.claim-lease:2m}") Duration claimLease,
+                               @Value("${email.dedupe.cleanup-batch-size:1000}") int cleanupBatchSize) {
+        this.processedEventRepository = processedEventRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.ttl = ttl;
+        this.claimLease = claimLease;
+        this.cleanupBatchSize = cleanupBatchSize;
+        this.recent = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, recent, "email.dedupe.recent");
+        this.memoryHits = meterRegistry.counter("email.dedupe.hits", "source", "memory");
+        this.databaseHits = meterRegistry.counter("email.dedupe.hits", "source", "database");
+        this.claims = meterRegistry.counter("email.dedupe.claims");
+    }
+
+    /**
+     * Claims the event for this delivery. {@link Claim#DUPLICATE} means it was already sent;
+     * {@link Claim#IN_PROGRESS} means another delivery holds a live claim and this one should be
+     * retried later rather than dropped. A missing id cannot be deduplicated and is always
+     * acquired; so is any event whose claim cannot be recorded, since a rare duplicate beats a
+     * lost activation email.
+     */
+    public Claim claim(String eventId) {
+        if (eventId == null) {
+            return Claim.ACQUIRED;
+        }
+        if (recent.getIfPresent(eventId) != null) {
+            memoryHits.increment();
+            return Claim.DUPLICATE;
+        }
+        Claim result;
+        try {
+            result = transactionTemplate.execute(tx -> {
+                LocalDateTime now = LocalDateTime.now();
+                if (processedEventRepository.claim(eventId, now) > 0
+                        || processedEventRepository.reclaimExpired(
+                                eventId, ProcessedEventStatus.CLAIMED, now, now.minus(claimLease)) > 0) {
+                    return Claim.ACQUIRED;
+                }
+                return processedEventRepository.findById(eventId)
+                        .map(ProcessedEvent::getStatus)
+                        .filter(ProcessedEventStatus.CLAIMED::equals)
+                        .map(status -> Claim.IN_PROGRESS)
+                        .orElse(Claim.DUPLICATE);
+            });
+        } catch (DataAccessException ex) {
+            log.warn("Could not record event claim, processing anyway | eventId={} | error={}", eventId, ex.getMessage());
+            return Claim.ACQUIRED;
+        }
+        if (result == Claim.ACQUIRED) {
+            claims.increment();
+        } else {
+            databaseHits.increment();
+        }
+        return result;
+    }
+
+    /**
+     * Makes the claims final once their emails are sent, so every later redelivery is skipped.
+     */
+    public void markSent(Collection<String> eventIds) {
+        List<String> ids = eventIds.stream().filter(Objects::nonNull).toList();
+        if (ids.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(tx ->
+                    processedEventRepository.updateStatus(ids, ProcessedEventStatus.SENT));
+        } catch (DataAccessException ex) {
+            log.warn("Could not mark events sent | count={} | error={}", ids.size(), ex.getMessage());
+            return;
+        }
+        ids.forEach(id -> recent.put(id, Boolean.TRUE));
+    }
+
+    /**
+     * Gives the event back after a failed attempt so its retry delivery can claim it again.
+     */
+    public void release(String eventId) {
+        if (eventId == null) {
+            return;
+        }
+        recent.invalidate(eventId);
+        try {
+            transactionTemplate.executeWithoutResult(tx -> processedEventRepository.deleteByIds(List.of(eventId)));
+        } catch (DataAccessException ex) {
+            log.warn("Could not release event claim | eventId={} | error={}", eventId, ex.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${email.dedupe.cleanup-cron:0 30 * * * *}")
+    public void purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(ttl);
+        int total = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(tx -> {
+                List<String> ids = processedEventRepository.findIdsProcessedBefore(cutoff, PageRequest.of(0, cleanupBatchSize));
+                return ids.isEmpty() ? 0 : processedEventRepository.deleteByIds(ids);
+            });
+            total += deleted;
+        } while (deleted == cleanupBatchSize);
+        if (total > 0) {
+            log.info("Purged processed event ids | count={}", total);
+        }
+    }
+
+    public enum Claim {
+        ACQUIRED,
+        DUPLICATE,
+        IN_PROGRESS
+    }
+}
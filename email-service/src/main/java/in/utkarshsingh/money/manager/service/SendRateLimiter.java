@@ -0,0 +1,34 @@
+package in.utkarshsingh.money.manager.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free pacing of sends to one provider: each caller reserves the next free slot and sleeps
+ * until it arrives. Up to {@code burst} sends may go out back-to-back after an idle period.
+ */
+class SendRateLimiter {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong nextFree = new AtomicLong(System.nanoTime());
+
+    SendRateLimiter(double permitsPerSecond, int burst) {
+        this.intervalNanos = permitsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond) : 0;
+        this.burstNanos = intervalNanos * Math.max(burst - 1, 0);
+    }
+
+    void acquire() throws InterruptedException {
+        if (intervalNanos == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        long slot = Math.max(
+                nextFree.getAndAccumulate(now, (next, n) -> Math.max(next, n - burstNanos) + intervalNanos),
+                now - burstNanos);
+        long wait = slot - now;
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+}
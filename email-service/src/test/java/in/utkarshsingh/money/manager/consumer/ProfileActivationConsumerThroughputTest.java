@@ -0,0 +1,123 @@
+package in.utkarshsingh.money.manager.consumer;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import in.utkarshsingh.money.manager.event.ProfileActivationEvent;
+import in.utkarshsingh.money.manager.service.PooledSmtpSender;
+import in.utkarshsingh.money.manager.service.ProcessedEventStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.thymeleaf.TemplateEngine;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Drives concurrent activation batches through the real pooled sender into an in-JVM SMTP
+ * server. Asserts every email arrives without a retry and over no more connections than the
+ * pool holds; the measured rate is logged, not asserted, so slow CI hosts do not flake.
+ */
+class ProfileActivationConsumerThroughputTest {
+
+    private static final int CONSUMERS = 4;
+    private static final int BATCHES_PER_CONSUMER = 25;
+    private static final int BATCH_SIZE = 10;
+    private static final int POOL_SIZE = 4;
+
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+    private PooledSmtpSender pooledSmtpSender;
+    private ProfileActivationConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+        mailSender.setProtocol("smtp");
+        pooledSmtpSender = new PooledSmtpSender(mailSender, meterRegistry, POOL_SIZE, Duration.ofMinutes(2), 10_000, 1000);
+
+        ProcessedEventStore processedEventStore = mock(ProcessedEventStore.class);
+        when(processedEventStore.claim(anyString())).thenReturn(ProcessedEventStore.Claim.ACQUIRED);
+        MessageConverter messageConverter = mock(MessageConverter.class);
+        when(messageConverter.fromMessage(any(Message.class))).thenAnswer(invocation -> {
+            Message message = invocation.getArgument(0);
+            String id = new String(message.getBody());
+            return new ProfileActivationEvent(id, id + "@money-manager.test", "User " + id, "token-" + id);
+        });
+
+        consumer = new ProfileActivationConsumer(mailSender, new TemplateEngine(), pooledSmtpSender, processedEventStore,
+                messageConverter, rabbitTemplate, mock(AmqpAdmin.class), meterRegistry, List.of(Duration.ofSeconds(5)));
+        ReflectionTestUtils.setField(consumer, "fromEmail", "noreply@money-manager.test");
+        ReflectionTestUtils.setField(consumer, "activationBaseUrl", "http://localhost:8080");
+    }
+
+    @AfterEach
+    void tearDown() {
+        pooledSmtpSender.close();
+    }
+
+    @Test
+    void concurrentBatches_deliverEveryEmailOverThePool() throws Exception {
+        int total = CONSUMERS * BATCHES_PER_CONSUMER * BATCH_SIZE;
+        ExecutorService listeners = Executors.newFixedThreadPool(CONSUMERS);
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> runs = new ArrayList<>();
+            for (int c = 0; c < CONSUMERS; c++) {
+                int listener = c;
+                runs.add(listeners.submit(() -> {
+                    for (int b = 0; b < BATCHES_PER_CONSUMER; b++) {
+                        consumer.handleProfileActivations(batch(listener + "-" + b));
+                    }
+                }));
+            }
+            for (Future<?> run : runs) {
+                run.get();
+            }
+        } finally {
+            listeners.shutdownNow();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        assertThat(greenMail.waitForIncomingEmail(10_000, total)).isTrue();
+        assertThat(meterRegistry.get("activation.email.sent").counter().count()).isEqualTo(total);
+        assertThat(meterRegistry.get("email.smtp.connections.opened").counter().count()).isLessThanOrEqualTo(POOL_SIZE);
+        verify(rabbitTemplate, never()).send(anyString(), anyString(), any(Message.class));
+        System.out.printf("Activation throughput: %d emails in %d ms (%.0f/s)%n",
+                total, elapsed.toMillis(), total * 1000.0 / Math.max(1, elapsed.toMillis()));
+    }
+
+    private static List<Message> batch(String prefix) {
+        List<Message> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(new Message((prefix + "-" + i).getBytes(), new MessageProperties()));
+        }
+        return batch;
+    }
+}
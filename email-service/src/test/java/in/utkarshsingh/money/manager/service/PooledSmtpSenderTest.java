@@ -0,0 +1,148 @@
+package in.utkarshsingh.money.manager.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.NoSuchProviderException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PooledSmtpSenderTest {
+
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final AtomicInteger unpooledConnections = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private JavaMailSenderImpl mailSender;
+    private PooledSmtpSender sender;
+
+    @BeforeEach
+    void setUp() {
+        mailSender = new JavaMailSenderImpl() {
+            @Override
+            protected Transport getTransport(Session session) throws NoSuchProviderException {
+                unpooledConnections.incrementAndGet();
+                return super.getTransport(session);
+            }
+        };
+        mailSender.setHost("localhost");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+        mailSender.setProtocol("smtp");
+        meterRegistry = new SimpleMeterRegistry();
+        sender = new PooledSmtpSender(mailSender, meterRegistry, 2, Duration.ofMinutes(2), 1000, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sender.close();
+    }
+
+    @Test
+    void pooledBatches_reuseOneConnection() throws Exception {
+        for (int batch = 0; batch < 3; batch++) {
+            sender.send(message(batch * 4), message(batch * 4 + 1), message(batch * 4 + 2), message(batch * 4 + 3));
+        }
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(12);
+        assertThat(connectionsOpened()).isEqualTo(1);
+    }
+
+    @Test
+    void unpooledSends_connectPerMessage() throws Exception {
+        for (int i = 0; i < 12; i++) {
+            mailSender.send(message(i));
+        }
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(12);
+        assertThat(unpooledConnections).hasValue(12);
+    }
+
+    @Test
+    void connectionDroppedMidBatch_reconnectsAndReportsOnlyTheDroppedMessage() throws Exception {
+        MimeMessage dropped = new DroppingMessage(mailSender.getSession(), false);
+        MimeMessage first = message(1);
+        MimeMessage last = message(2);
+
+        assertThatThrownBy(() -> sender.send(first, dropped, last))
+                .isInstanceOfSatisfying(MailSendException.class, ex ->
+                        assertThat(ex.getFailedMessages()).containsOnlyKeys(dropped));
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(2);
+        assertThat(connectionsOpened()).isEqualTo(2);
+    }
+
+    @Test
+    void serverGoneMidBatch_reportsOnlyUndeliveredMessages() throws Exception {
+        DroppingMessage dropped = new DroppingMessage(mailSender.getSession(), true);
+        MimeMessage first = message(1);
+        MimeMessage second = message(2);
+        MimeMessage fourth = message(4);
+        MimeMessage fifth = message(5);
+
+        assertThatThrownBy(() -> sender.send(first, second, dropped, fourth, fifth))
+                .isInstanceOfSatisfying(MailSendException.class, ex ->
+                        assertThat(ex.getFailedMessages()).containsOnlyKeys(dropped, fourth, fifth));
+
+        assertThat(dropped.receivedBeforeDrop).isEqualTo(2);
+    }
+
+    private MimeMessage message(int index) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        fill(message, index);
+        return message;
+    }
+
+    private static void fill(MimeMessage message, int index) throws MessagingException {
+        message.setFrom(new InternetAddress("noreply@money-manager.test"));
+        message.setRecipient(MimeMessage.RecipientType.TO, new InternetAddress("user" + index + "@money-manager.test"));
+        message.setSubject("Message " + index);
+        message.setText("Body " + index);
+    }
+
+    private double connectionsOpened() {
+        return meterRegistry.get("email.smtp.connections.opened").counter().count();
+    }
+
+    /**
+     * Fails while its body is being written, which makes the SMTP transport drop the connection
+     * the way a reset socket would. Optionally takes the server down first.
+     */
+    private static class DroppingMessage extends MimeMessage {
+
+        private final boolean stopServer;
+        private int receivedBeforeDrop = -1;
+
+        DroppingMessage(Session session, boolean stopServer) throws MessagingException {
+            super(session);
+            this.stopServer = stopServer;
+            fill(this, 3);
+        }
+
+        @Override
+        public void writeTo(OutputStream os, String[] ignoreList) throws IOException, MessagingException {
+            if (stopServer) {
+                receivedBeforeDrop = greenMail.getReceivedMessages().length;
+                greenMail.stop();
+            }
+            throw new IOException("Connection reset");
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package in.utkarshsingh.money.manager.service;
+
+import in.utkarshsingh.money.manager.entity.ProcessedEvent;
+import in.utkarshsingh.money.manager.enums.ProcessedEventStatus;
+import in.utkarshsingh.money.manager.repository.ProcessedEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProcessedEventStoreTest {
+
+    private final Map<String, ProcessedEvent> rows = new ConcurrentHashMap<>();
+    private ProcessedEventRepository repository;
+    private ProcessedEventStore store;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ProcessedEventRepository.class);
+        when(repository.claim(anyString(), any())).thenAnswer(invocation -> {
+            ProcessedEvent row = ProcessedEvent.builder()
+                    .eventId(invocation.getArgument(0))
+                    .status(ProcessedEventStatus.CLAIMED)
+                    .processedAt(invocation.getArgument(1))
+                    .build();
+            return rows.putIfAbsent(row.getEventId(), row) == null ? 1 : 0;
+        });
+        when(repository.findById(anyString())).thenAnswer(invocation ->
+                Optional.ofNullable(rows.get(invocation.<String>getArgument(0))));
+        when(repository.updateStatus(anyCollection(), eq(ProcessedEventStatus.SENT))).thenAnswer(invocation -> {
+            invocation.<List<String>>getArgument(0).forEach(id -> rows.get(id).setStatus(ProcessedEventStatus.SENT));
+            return 1;
+        });
+        store = new ProcessedEventStore(repository, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                new SimpleMeterRegistry(), 1000, Duration.ofDays(7), Duration.ofMinutes(2), 100);
+    }
+
+    @Test
+    void duplicateBurst_acquiresEachEventOnce() throws Exception {
+        int deliveries = 32;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(deliveries);
+        try {
+            List<Future<ProcessedEventStore.Claim>> results = new ArrayList<>();
+            for (int i = 0; i < deliveries; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return store.claim("evt-1");
+                }));
+            }
+            start.countDown();
+
+            int acquired = 0;
+            for (Future<ProcessedEventStore.Claim> result : results) {
+                ProcessedEventStore.Claim claim = result.get();
+                if (claim == ProcessedEventStore.Claim.ACQUIRED) {
+                    acquired++;
+                } else {
+                    assertThat(claim).isEqualTo(ProcessedEventStore.Claim.IN_PROGRESS);
+                }
+            }
+            assertThat(acquired).isEqualTo(1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void sentEvent_isDuplicate() {
+        assertThat(store.claim("evt-1")).isEqualTo(ProcessedEventStore.Claim.ACQUIRED);
+        store.markSent(List.of("evt-1"));
+
+        assertThat(store.claim("evt-1")).isEqualTo(ProcessedEventStore.Claim.DUPLICATE);
+    }
+
+    @Test
+    void expiredClaim_isReclaimed() {
+        rows.put("evt-1", ProcessedEvent.builder()
+                .eventId("evt-1")
+                .status(ProcessedEventStatus.CLAIMED)
+                .processedAt(LocalDateTime.now().minusMinutes(10))
+                .build());
+        when(repository.reclaimExpired(eq("evt-1"), eq(ProcessedEventStatus.CLAIMED), any(), any())).thenReturn(1);
+
+        assertThat(store.claim("evt-1")).isEqualTo(ProcessedEventStore.Claim.ACQUIRED);
+    }
+
+    @Test
+    void releasedClaim_canBeClaimedAgain() {
+        when(repository.deleteByIds(anyCollection())).thenAnswer(invocation -> {
+            invocation.<List<String>>getArgument(0).forEach(rows::remove);
+            return 1;
+        });
+        assertThat(store.claim("evt-1")).isEqualTo(ProcessedEventStore.Claim.ACQUIRED);
+        store.release("evt-1");
+
+        assertThat(store.claim("evt-1")).isEqualTo(ProcessedEventStore.Claim.ACQUIRED);
+    }
+}
@@ -4,11 +4,14 @@ import in.utkarshsingh.money.manager.dto.InvestmentDTO;
 import in.utkarshsingh.money.manager.dto.request.InvestmentRequest;
 import in.utkarshsingh.money.manager.entity.InvestmentEntity;
 import in.utkarshsingh.money.manager.entity.ProfileEntity;
+import in.utkarshsingh.money.manager.enums.FinancialDataType;
+import in.utkarshsingh.money.manager.event.ProfileDataChangedEvent;
 import in.utkarshsingh.money.manager.exceptions.ResourceNotFoundException;
 import in.utkarshsingh.money.manager.exceptions.UnauthorizedActionException;
 import in.utkarshsingh.money.manager.mapper.InvestmentMapper;
 import in.utkarshsingh.money.manager.repository.InvestmentRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,12 +25,14 @@ public class InvestmentService {
     private final InvestmentRepository investmentRepository;
     private final UserResolverService userResolverService;
     private final InvestmentMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public InvestmentDTO create(InvestmentRequest request) {
         ProfileEntity profile = userResolverService.getCurrentProfile();
         InvestmentEntity entity = mapper.toEntity(request, profile);
         entity = investmentRepository.save(entity);
+        eventPublisher.publishEvent(ProfileDataChangedEvent.of(profile.getId(), FinancialDataType.INVESTMENT));
         return mapper.toDTO(entity);
     }
 
@@ -51,6 +56,7 @@ public class InvestmentService {
         entity.setPurchaseDate(request.getPurchaseDate());
         entity.setNotes(request.getNotes());
         entity = investmentRepository.save(entity);
+        eventPublisher.publishEvent(ProfileDataChangedEvent.of(profile.getId(), FinancialDataType.INVESTMENT));
         return mapper.toDTO(entity);
     }
 
@@ -63,6 +69,7 @@ public class InvestmentService {
             throw new UnauthorizedActionException("You are not allowed to delete this investment");
         }
         investmentRepository.delete(entity);
+        eventPublisher.publishEvent(ProfileDataChangedEvent.of(profile.getId(), FinancialDataType.INVESTMENT));
     }
 
     @Transactional(readOnly = true)
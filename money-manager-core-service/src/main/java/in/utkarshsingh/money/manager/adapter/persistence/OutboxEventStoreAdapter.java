@@ -5,8 +5,11 @@ import in.utkarshsingh.money.manager.enums.EventStatus;
 import in.utkarshsingh.money.manager.port.OutboxEventStore;
 import in.utkarshsingh.money.manager.repository.OutboxRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -30,4 +33,11 @@ public class OutboxEventStoreAdapter implements OutboxEventStore {
         }
         return repository.findTop50ByStatusOrderByCreatedAtAsc(status).stream().limit(limit).toList();
     }
+
+    @Override
+    @Transactional
+    public int deleteCreatedBefore(EventStatus status, LocalDateTime cutoff, int limit) {
+        List<Long> ids = repository.findIdsCreatedBefore(status, cutoff, PageRequest.of(0, limit));
+        return ids.isEmpty() ? 0 : repository.deleteByIds(ids);
+    }
 }
@@ -3,6 +3,7 @@ package in.utkarshsingh.money.manager.port;
 import in.utkarshsingh.money.manager.entity.OutboxEvent;
 import in.utkarshsingh.money.manager.enums.EventStatus;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -12,4 +13,5 @@ import java.util.List;
 public interface OutboxEventStore {
     OutboxEvent save(OutboxEvent event);
     List<OutboxEvent> findTopByStatusOrderByCreatedAtAsc(EventStatus status, int limit);
+    int deleteCreatedBefore(EventStatus status, LocalDateTime cutoff, int limit);
 }
@@ -1,6 +1,7 @@
 package in.utkarshsingh.money.manager.publisher;
 
 import in.utkarshsingh.money.manager.usecase.PublishPendingOutboxEventsUseCase;
+import in.utkarshsingh.money.manager.usecase.PurgeExpiredOutboxEventsUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.EnableScheduling;
@@ -8,7 +9,7 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 /**
- * Scheduler: triggers publish of pending outbox events (SRP).
+ * Scheduler: triggers publish of pending outbox events and purge of expired ones (SRP).
  * Delegates to use case; no business logic here.
  */
 @Component
@@ -18,9 +19,15 @@ import org.springframework.stereotype.Component;
 public class OutboxPublisher {
 
     private final PublishPendingOutboxEventsUseCase publishPendingOutboxEventsUseCase;
+    private final PurgeExpiredOutboxEventsUseCase purgeExpiredOutboxEventsUseCase;
 
     @Scheduled(fixedDelay = 30000)
     public void publishPendingEvents() {
         publishPendingOutboxEventsUseCase.execute();
     }
+
+    @Scheduled(cron = "${outbox.retention.cron:0 15 * * * *}")
+    public void purgeExpiredEvents() {
+        purgeExpiredOutboxEventsUseCase.execute();
+    }
 }
@@ -2,11 +2,26 @@ package in.utkarshsingh.money.manager.repository;
 
 import in.utkarshsingh.money.manager.entity.OutboxEvent;
 import in.utkarshsingh.money.manager.enums.EventStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface OutboxRepository extends JpaRepository<OutboxEvent, Long> {
 
     List<OutboxEvent> findTop50ByStatusOrderByCreatedAtAsc(EventStatus status);
+
+    @Query("SELECT e.id FROM OutboxEvent e WHERE e.status = :status AND e.createdAt < :cutoff ORDER BY e.createdAt")
+    List<Long> findIdsCreatedBefore(@Param("status") EventStatus status,
+                                    @Param("cutoff") LocalDateTime cutoff,
+                                    Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
 }
@@ -1,6 +1,9 @@
 package in.utkarshsingh.money.manager.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import in.utkarshsingh.money.manager.util.JwtUtil;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.SignatureException;
@@ -8,25 +11,50 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
 
+/**
+ * Authenticates bearer tokens. Each token is parsed and verified exactly once per request.
+ * In stateless mode ({@code jwt.filter.stateless=true}) the {@code Authentication} is built from
+ * the verified claims alone; revocation of disabled accounts is covered by a short-TTL cache of
+ * account status, so the user store is hit at most once per user per TTL.
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class JwtRequestFilter extends OncePerRequestFilter {
 
     private final UserDetailsService userDetailsService;
     private final JwtUtil jwtUtil;
+    private final boolean stateless;
+    private final Cache<String, Boolean> activeAccounts;
+
+    public JwtRequestFilter(UserDetailsService userDetailsService,
+                            JwtUtil jwtUtil,
+                            @Value("${jwt.filter.stateless:false}") boolean stateless,
+                            @Value("${jwt.filter.active-check-ttl:30s}") Duration activeCheckTtl,
+                            @Value("${jwt.filter.active-check-max-size:10000}") long activeCheckMaxSize) {
+        this.userDetailsService = userDetailsService;
+        this.jwtUtil = jwtUtil;
+        this.stateless = stateless;
+        this.activeAccounts = activeCheckTtl.isZero() ? null : Caffeine.newBuilder()
+                .maximumSize(activeCheckMaxSize)
+                .expireAfterWrite(activeCheckTtl)
+                .build();
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -40,12 +68,10 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         }
 
         try {
-            String jwt = authHeader.substring(7);
-            String email = jwtUtil.extractUsername(jwt);
-
-            if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-                if (jwtUtil.validateToken(jwt, userDetails)) {
+            if (SecurityContextHolder.getContext().getAuthentication() == null) {
+                Claims claims = jwtUtil.parseClaims(authHeader.substring(7));
+                UserDetails userDetails = stateless ? fromClaims(claims) : fromUserStore(claims);
+                if (userDetails != null) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails, null, userDetails.getAuthorities()
                     );
@@ -65,4 +91,40 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    private UserDetails fromClaims(Claims claims) {
+        String email = claims.getSubject();
+        if (email == null || !isActive(email)) {
+            return null;
+        }
+        return User.withUsername(email)
+                .password("")
+                .authorities(List.of())
+                .build();
+    }
+
+    private UserDetails fromUserStore(Claims claims) {
+        String email = claims.getSubject();
+        if (email == null) {
+            return null;
+        }
+        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+        return jwtUtil.validateClaims(claims, userDetails) ? userDetails : null;
+    }
+
+    private boolean isActive(String email) {
+        if (activeAccounts == null) {
+            return true;
+        }
+        return activeAccounts.get(email, this::loadActive);
+    }
+
+    private Boolean loadActive(String email) {
+        try {
+            UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+            return userDetails.isEnabled() && userDetails.isAccountNonLocked();
+        } catch (UsernameNotFoundException ex) {
+            return false;
+        }
+    }
 }
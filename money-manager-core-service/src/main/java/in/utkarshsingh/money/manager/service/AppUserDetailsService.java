@@ -24,6 +24,7 @@ public class AppUserDetailsService implements UserDetailsService {
                 .username(existingProfile.getEmail())
                 .password(existingProfile.getPassword())
                 .authorities(Collections.emptyList())
+                .disabled(!Boolean.TRUE.equals(existingProfile.getIsActive()))
                 .build();
     }
 }
@@ -0,0 +1,53 @@
+package in.utkarshsingh.money.manager.usecase;
+
+import in.utkarshsingh.money.manager.enums.EventStatus;
+import in.utkarshsingh.money.manager.port.OutboxEventStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Use case: delete finished outbox events past their retention (SRP).
+ * Deletes in bounded batches, one short transaction each, so locks stay brief.
+ */
+@Service
+@Slf4j
+public class PurgeExpiredOutboxEventsUseCase {
+
+    private final OutboxEventStore outboxEventStore;
+    private final int batchSize;
+    private final Duration sentRetention;
+    private final Duration failedRetention;
+
+    public PurgeExpiredOutboxEventsUseCase(OutboxEventStore outboxEventStore,
+                                           @Value("${outbox.retention.batch-size:500}") int batchSize,
+                                           @Value("${outbox.retention.sent:7d}") Duration sentRetention,
+                                           @Value("${outbox.retention.failed:30d}") Duration failedRetention) {
+        this.outboxEventStore = outboxEventStore;
+        this.batchSize = batchSize;
+        this.sentRetention = sentRetention;
+        this.failedRetention = failedRetention;
+    }
+
+    public void execute() {
+        int sent = purge(EventStatus.SENT, sentRetention);
+        int failed = purge(EventStatus.FAILED, failedRetention);
+        if (sent + failed > 0) {
+            log.info("Purged outbox events | sent={} | failed={}", sent, failed);
+        }
+    }
+
+    private int purge(EventStatus status, Duration retention) {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        int total = 0;
+        int deleted;
+        do {
+            deleted = outboxEventStore.deleteCreatedBefore(status, cutoff, batchSize);
+            total += deleted;
+        } while (deleted == batchSize);
+        return total;
+    }
+}
@@ -5,11 +5,14 @@ import in.utkarshsingh.money.manager.dto.request.DebtRequest;
 import in.utkarshsingh.money.manager.entity.DebtEntity;
 import in.utkarshsingh.money.manager.entity.ProfileEntity;
 import in.utkarshsingh.money.manager.enums.DebtStatus;
+import in.utkarshsingh.money.manager.enums.FinancialDataType;
+import in.utkarshsingh.money.manager.event.ProfileDataChangedEvent;
 import in.utkarshsingh.money.manager.exceptions.ResourceNotFoundException;
 import in.utkarshsingh.money.manager.exceptions.UnauthorizedActionException;
 import in.utkarshsingh.money.manager.mapper.DebtMapper;
 import in.utkarshsingh.money.manager.repository.DebtRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,12 +26,14 @@ public class DebtService {
     private final DebtRepository debtRepository;
     private final UserResolverService userResolverService;
     private final DebtMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public DebtDTO create(DebtRequest request) {
         ProfileEntity profile = userResolverService.getCurrentProfile();
         DebtEntity entity = mapper.toEntity(request, profile);
         entity = debtRepository.save(entity);
+        eventPublisher.publishEvent(ProfileDataChangedEvent.of(profile.getId(), FinancialDataType.DEBT));
         return mapper.toDTO(entity);
     }
 
@@ -52,6 +57,7 @@ public class DebtService {
         entity.setEndDate(request.getEndDate());
         entity.setNotes(request.getNotes());
         entity = debtRepository.save(entity);
+        eventPublisher.publishEvent(ProfileDataChangedEvent.of(profile.getId(), FinancialDataType.DEBT));
         return mapper.toDTO(entity);
     }
 
@@ -76,6 +82,7 @@ public class DebtService {
             entity.setRemainingAmount(newRemaining);
         }
         entity = debtRepository.save(entity);
+        eventPublisher.publishEvent(ProfileDataChangedEvent.of(profile.getId(), FinancialDataType.DEBT));
         return mapper.toDTO(entity);
     }
 
@@ -88,6 +95,7 @@ public class DebtService {
             throw new UnauthorizedActionException("You are not allowed to delete this debt");
         }
         debtRepository.delete(entity);
+        eventPublisher.publishEvent(ProfileDataChangedEvent.of(profile.getId(), FinancialDataType.DEBT));
     }
 
     @Transactional(readOnly = true)
@@ -4,12 +4,15 @@ import in.utkarshsingh.money.manager.dto.SavingsGoalDTO;
 import in.utkarshsingh.money.manager.dto.request.SavingsGoalRequest;
 import in.utkarshsingh.money.manager.entity.ProfileEntity;
 import in.utkarshsingh.money.manager.entity.SavingsGoalEntity;
+import in.utkarshsingh.money.manager.enums.FinancialDataType;
 import in.utkarshsingh.money.manager.enums.GoalStatus;
+import in.utkarshsingh.money.manager.event.ProfileDataChangedEvent;
 import in.utkarshsingh.money.manager.exceptions.ResourceNotFoundException;
 import in.utkarshsingh.money.manager.exceptions.UnauthorizedActionException;
 import in.utkarshsingh.money.manager.mapper.SavingsGoalMapper;
 import in.utkarshsingh.money.manager.repository.SavingsGoalRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,12 +26,14 @@ public class SavingsGoalService {
     private final SavingsGoalRepository savingsGoalRepository;
     private final UserResolverService userResolverService;
     private final SavingsGoalMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public SavingsGoalDTO create(SavingsGoalRequest request) {
         ProfileEntity profile = userResolverService.getCurrentProfile();
         SavingsGoalEntity entity = mapper.toEntity(request, profile);
         entity = savingsGoalRepository.save(entity);
+        eventPublisher.publishEvent(ProfileDataChangedEvent.of(profile.getId(), FinancialDataType.SAVINGS_GOAL));
         return mapper.toDTO(entity);
     }
 
@@ -49,6 +54,7 @@ public class SavingsGoalService {
         entity.setTargetAmount(request.getTargetAmount());
         entity.setTargetDate(request.getTargetDate());
         entity = savingsGoalRepository.save(entity);
+        eventPublisher.publishEvent(ProfileDataChangedEvent.of(profile.getId(), FinancialDataType.SAVINGS_GOAL));
         return mapper.toDTO(entity);
     }
 
@@ -70,6 +76,7 @@ public class SavingsGoalService {
             entity.setStatus(GoalStatus.COMPLETED);
         }
         entity = savingsGoalRepository.save(entity);
+        eventPublisher.publishEvent(ProfileDataChangedEvent.of(profile.getId(), FinancialDataType.SAVINGS_GOAL));
         return mapper.toDTO(entity);
     }
 
@@ -82,6 +89,7 @@ public class SavingsGoalService {
             throw new UnauthorizedActionException("You are not allowed to delete this savings goal");
         }
         savingsGoalRepository.delete(entity);
+        eventPublisher.publishEvent(ProfileDataChangedEvent.of(profile.getId(), FinancialDataType.SAVINGS_GOAL));
     }
 
     @Transactional(readOnly = true)
@@ -2,22 +2,45 @@ package in.utkarshsingh.money.manager.service;
 
 import in.utkarshsingh.money.manager.entity.ProfileEntity;
 import in.utkarshsingh.money.manager.exceptions.UserNotFoundException;
-import in.utkarshsingh.money.manager.repository.ProfileRepository;
+import in.utkarshsingh.money.manager.security.CachingProfileResolver;
+import in.utkarshsingh.money.manager.security.ProfileRef;
 import in.utkarshsingh.money.manager.security.UserContext;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class UserResolverService {
-    private final ProfileRepository profileRepository;
+    private final CachingProfileResolver cachingProfileResolver;
+    private final EntityManager entityManager;
 
+    /**
+     * Uses the gateway-forwarded profile id when present so callers get an uninitialized
+     * reference without a SELECT; tokens issued before the id claim, or a malformed id header,
+     * fall back to the cached email lookup.
+     */
     public ProfileEntity getCurrentProfile() {
+        Long profileId = parseProfileId(UserContext.getCurrentUserId());
+        if (profileId != null) {
+            return entityManager.getReference(ProfileEntity.class, profileId);
+        }
         String email = UserContext.getCurrentEmail();
         if (email == null) {
             throw new UserNotFoundException("unknown");
         }
-        return profileRepository.findByEmail(email)
-                .orElseThrow(() -> new UserNotFoundException(email));
+        ProfileRef profile = cachingProfileResolver.resolve(email);
+        return entityManager.getReference(ProfileEntity.class, profile.id());
+    }
+
+    private static Long parseProfileId(String userId) {
+        if (userId == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(userId);
+        } catch (NumberFormatException ex) {
+            return null;
+        }
     }
 }
@@ -1,30 +0,0 @@
-package in.utkarshsingh.money.manager.security;
-
-import jakarta.servlet.FilterChain;
-import jakarta.servlet.ServletException;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.web.filter.OncePerRequestFilter;
-
-import java.io.IOException;
-
-public class UserContextFilter extends OncePerRequestFilter {
-
-    @Override
-    protected void doFilterInternal(HttpServletRequest request,
-                                    HttpServletResponse response,
-                                    FilterChain filterChain) throws ServletException, IOException {
-        String userEmail = request.getHeader("X-User-Email");
-        String userId = request.getHeader("X-User-Id");
-
-        if (userEmail != null) {
-            UserContext.setCurrentUser(userId, userEmail);
-        }
-
-        try {
-            filterChain.doFilter(request, response);
-        } finally {
-            UserContext.clear();
-        }
-    }
-}
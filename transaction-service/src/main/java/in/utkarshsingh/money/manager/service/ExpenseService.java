@@ -5,12 +5,15 @@ import in.utkarshsingh.money.manager.dto.request.ExpenseRequest;
 import in.utkarshsingh.money.manager.entity.CategoryEntity;
 import in.utkarshsingh.money.manager.entity.ExpenseEntity;
 import in.utkarshsingh.money.manager.entity.ProfileEntity;
+import in.utkarshsingh.money.manager.enums.FinancialDataType;
+import in.utkarshsingh.money.manager.event.ProfileDataChangedEvent;
 import in.utkarshsingh.money.manager.exceptions.ResourceNotFoundException;
 import in.utkarshsingh.money.manager.exceptions.UnauthorizedActionException;
 import in.utkarshsingh.money.manager.mapper.ExpenseMapper;
 import in.utkarshsingh.money.manager.repository.CategoryRepository;
 import in.utkarshsingh.money.manager.repository.ExpenseRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,6 +30,7 @@ public class ExpenseService {
     private final ExpenseRepository expenseRepository;
     private final UserResolverService userResolverService;
     private final ExpenseMapper expenseMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ExpenseDTO addExpense(ExpenseRequest request) {
@@ -35,6 +39,7 @@ public class ExpenseService {
                 .orElseThrow(() -> new ResourceNotFoundException("Category", request.getCategoryId()));
         ExpenseEntity entity = expenseMapper.toEntity(request, profile, category);
         entity = expenseRepository.save(entity);
+        eventPublisher.publishEvent(ProfileDataChangedEvent.of(profile.getId(), FinancialDataType.EXPENSE));
         return expenseMapper.toDTO(entity);
     }
 
@@ -61,6 +66,7 @@ public class ExpenseService {
         entity.setDate(request.getDate());
         entity.setCategory(category);
         entity = expenseRepository.save(entity);
+        eventPublisher.publishEvent(ProfileDataChangedEvent.of(profile.getId(), FinancialDataType.EXPENSE));
         return expenseMapper.toDTO(entity);
     }
 
@@ -73,6 +79,7 @@ public class ExpenseService {
             throw new UnauthorizedActionException("You are not allowed to delete this expense");
         }
         expenseRepository.delete(entity);
+        eventPublisher.publishEvent(ProfileDataChangedEvent.of(profile.getId(), FinancialDataType.EXPENSE));
     }
 
     @Transactional(readOnly = true)
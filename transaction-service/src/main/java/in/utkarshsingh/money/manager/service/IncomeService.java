@@ -5,12 +5,15 @@ import in.utkarshsingh.money.manager.dto.request.IncomeRequest;
 import in.utkarshsingh.money.manager.entity.CategoryEntity;
 import in.utkarshsingh.money.manager.entity.IncomeEntity;
 import in.utkarshsingh.money.manager.entity.ProfileEntity;
+import in.utkarshsingh.money.manager.enums.FinancialDataType;
+import in.utkarshsingh.money.manager.event.ProfileDataChangedEvent;
 import in.utkarshsingh.money.manager.exceptions.ResourceNotFoundException;
 import in.utkarshsingh.money.manager.exceptions.UnauthorizedActionException;
 import in.utkarshsingh.money.manager.mapper.IncomeMapper;
 import in.utkarshsingh.money.manager.repository.CategoryRepository;
 import in.utkarshsingh.money.manager.repository.IncomeRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,6 +30,7 @@ public class IncomeService {
     private final IncomeRepository incomeRepository;
     private final UserResolverService userResolverService;
     private final IncomeMapper incomeMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public IncomeDTO addIncome(IncomeRequest request) {
@@ -35,6 +39,7 @@ public class IncomeService {
                 .orElseThrow(() -> new ResourceNotFoundException("Category", request.getCategoryId()));
         IncomeEntity entity = incomeMapper.toEntity(request, profile, category);
         entity = incomeRepository.save(entity);
+        eventPublisher.publishEvent(ProfileDataChangedEvent.of(profile.getId(), FinancialDataType.INCOME));
         return incomeMapper.toDTO(entity);
     }
 
@@ -61,6 +66,7 @@ public class IncomeService {
         entity.setDate(request.getDate());
         entity.setCategory(category);
         entity = incomeRepository.save(entity);
+        eventPublisher.publishEvent(ProfileDataChangedEvent.of(profile.getId(), FinancialDataType.INCOME));
         return incomeMapper.toDTO(entity);
     }
 
@@ -73,6 +79,7 @@ public class IncomeService {
             throw new UnauthorizedActionException("You are not allowed to delete this income");
         }
         incomeRepository.delete(entity);
+        eventPublisher.publishEvent(ProfileDataChangedEvent.of(profile.getId(), FinancialDataType.INCOME));
     }
 
     @Transactional(readOnly = true)